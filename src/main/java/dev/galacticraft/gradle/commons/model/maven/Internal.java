@@ -25,9 +25,14 @@
 
 package dev.galacticraft.gradle.commons.model.maven;
 
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.gradle.api.GradleException;
 
@@ -38,7 +43,9 @@ import dev.galacticraft.gradle.commons.util.IOWrapper;
 import dev.galacticraft.gradle.commons.util.StringUtil;
 import dev.galacticraft.gradle.commons.version.Version;
 import dev.galacticraft.gradle.commons.xml.MetadataReader;
+import dev.galacticraft.gradle.commons.xml.MetadataReader.Field;
 import dev.galacticraft.gradle.commons.xml.ModelReader;
+import dev.galacticraft.gradle.commons.xml.ModelReader.Section;
 import dev.galacticraft.gradle.commons.xml.metadata.Metadata;
 import dev.galacticraft.gradle.commons.xml.metadata.SnapshotVersion;
 import dev.galacticraft.gradle.commons.xml.model.Model;
@@ -47,9 +54,20 @@ public final class Internal
 {
 	private static String	pomFile			= "%s-%s.pom";
 	private static String	metadataFile	= "maven-metadata.xml";
+	private static Set<Field>	allMetadataFields	= EnumSet.allOf(Field.class);
+	// MavenModel only reads the release and the versions of the artifact metadata
+	static Set<Field>			versionFields		= EnumSet.of(Field.RELEASE, Field.VERSIONS);
+	private static Set<Section>	allPomSections		= EnumSet.allOf(Section.class);
+	// MavenModel only reads the dependencies of the POM
+	static Set<Section>			dependencySections	= EnumSet.of(Section.DEPENDENCIES);
 	static ConditionalLog	logger;
 
 	static Optional<Metadata> _getMetadata(URL repositoryUrl, GalacticProject project)
+	{
+		return _getMetadata(repositoryUrl, project, allMetadataFields);
+	}
+
+	static Optional<Metadata> _getMetadata(URL repositoryUrl, GalacticProject project, Set<Field> fields)
 	{
 		Metadata	metadata	= null;
 		IOWrapper	wrapper		= IOHelper.getIOWrapper(project, repositoryUrl, metadataFile, null);
@@ -62,7 +80,7 @@ public final class Internal
 		try
 		{
 			if (wrapper.getInputStream() != null)
-				metadata = new MetadataReader().read(wrapper.getInputStream());
+				metadata = readMetadata(wrapper, fields);
 		} catch (Exception e)
 		{
 			throw new GradleException("Failed to parse METADATA from: " + repositoryUrl, e);
@@ -70,7 +88,41 @@ public final class Internal
 		return Optional.ofNullable(metadata);
 	}
 
+	private static Metadata readMetadata(IOWrapper wrapper, Set<Field> fields) throws Exception
+	{
+		URL url = wrapper.getUrl();
+
+		// metadata of local repositories is scanned from the file itself
+		Path file = "file".equals(url.getProtocol()) ? toPath(url) : null;
+		if (file != null)
+		{
+			wrapper.getInputStream().close();
+			return new MetadataReader().read(file, fields);
+		}
+		return new MetadataReader().read(wrapper.getInputStream(), fields);
+	}
+
+	/**
+	 * Returns the path of a file: URL, or {@code null} if the URL is no valid URI, as with a raw space in it, which
+	 * {@link URL#openStream()} still accepts.
+	 */
+	private static Path toPath(URL url)
+	{
+		try
+		{
+			return Paths.get(url.toURI());
+		} catch (URISyntaxException | IllegalArgumentException e)
+		{
+			return null;
+		}
+	}
+
 	static Optional<Model> _getPom(URL repositoryUrl, GalacticProject project, Version version)
+	{
+		return _getPom(repositoryUrl, project, version, allPomSections);
+	}
+
+	static Optional<Model> _getPom(URL repositoryUrl, GalacticProject project, Version version, Set<Section> sections)
 	{
 		String		filename	= String.format(pomFile, project.getArtifactId(), version.toString());
 		Model		pomModel	= null;
@@ -84,7 +136,7 @@ public final class Internal
 		try
 		{
 			if (wrapper.getInputStream() != null)
-				pomModel = new ModelReader().read(wrapper.getInputStream());
+				pomModel = new ModelReader().read(wrapper.getInputStream(), sections);
 		} catch (Exception e)
 		{
 			throw new GradleException("Failed to parse POM from: " + StringUtil.asPath(repositoryUrl, version, filename), e);
@@ -106,7 +158,7 @@ public final class Internal
 		try
 		{
 			if (wrapper.getInputStream() != null)
-				metadata = new MetadataReader().read(wrapper.getInputStream());
+				metadata = readMetadata(wrapper, allMetadataFields);
 		} catch (Exception e)
 		{
 			throw new GradleException("Failed to parse METADATA from: " + repositoryUrl + filename, e);
@@ -115,6 +167,11 @@ public final class Internal
 	}
 
 	static Optional<Model> _getSnapshotPom(URL repositoryUrl, GalacticProject project, Version version)
+	{
+		return _getSnapshotPom(repositoryUrl, project, version, allPomSections);
+	}
+
+	static Optional<Model> _getSnapshotPom(URL repositoryUrl, GalacticProject project, Version version, Set<Section> sections)
 	{
 		String	filename	= null;
 		Model	pomModel	= null;
@@ -148,7 +205,7 @@ public final class Internal
 		try
 		{
 			if (wrapper.getInputStream() != null)
-				pomModel = new ModelReader().read(wrapper.getInputStream());
+				pomModel = new ModelReader().read(wrapper.getInputStream(), sections);
 		} catch (Exception e)
 		{
 			throw new GradleException("Failed to parse POM from: " + StringUtil.asPath(repositoryUrl, version, filename));
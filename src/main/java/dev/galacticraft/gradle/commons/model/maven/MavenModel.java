@@ -65,7 +65,7 @@ public class MavenModel extends MavenModelBase
 	{
 		if (this.metadata == null)
 		{
-			this.metadata = this.getMetadata();
+			this.metadata = this.getVersionMetadata();
 		}
 		return this.metadata;
 	}
@@ -76,10 +76,10 @@ public class MavenModel extends MavenModelBase
 		{
 			if (version.isSnapshotVersion())
 			{
-				this.pom = this.getSnapshotPom(project.getArtifactId(), version);
+				this.pom = this.getDependencySnapshotPom(version);
 			} else
 			{
-				this.pom = this.getPom(project.getArtifactId(), version);
+				this.pom = this.getDependencyPom(version);
 			}
 		}
 		return this.pom;
@@ -103,7 +103,7 @@ public class MavenModel extends MavenModelBase
 
 	public Version readLatestSnapshot()
 	{
-		return readVersions().extractSnapshots().latest();
+		return readVersions().snapshots().latest();
 	}
 
 	public Version readLatestRelease()
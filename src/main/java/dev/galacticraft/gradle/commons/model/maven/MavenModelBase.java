@@ -66,6 +66,16 @@ public abstract class MavenModelBase
 		return Internal._getMetadata(repositoryUrl, project);
 	}
 
+	/**
+	 * Reads only the release and the versions of the artifact metadata, all
+	 * other fields of the returned metadata are left unset.
+	 */
+	Optional<Metadata> getVersionMetadata()
+	{
+		this.runChecks(repositoryUrl, "getVersionMetadata()");
+		return Internal._getMetadata(repositoryUrl, project, Internal.versionFields);
+	}
+
 	protected Optional<Metadata> getSnapshotMetadata(Version version)
 	{
 		this.runChecks(repositoryUrl, "getSnapshotMetadata()");
@@ -84,6 +94,26 @@ public abstract class MavenModelBase
 		return Internal._getPom(repositoryUrl, project, version);
 	}
 
+	/**
+	 * Reads only the dependencies of the POM, all other sections of the
+	 * returned model are left unset.
+	 */
+	Optional<Model> getDependencyPom(Version version)
+	{
+		this.runChecks(repositoryUrl, "getDependencyPom()");
+		return Internal._getPom(repositoryUrl, project, version, Internal.dependencySections);
+	}
+
+	/**
+	 * Reads only the dependencies of the snapshot POM, all other sections of
+	 * the returned model are left unset.
+	 */
+	Optional<Model> getDependencySnapshotPom(Version version)
+	{
+		this.runChecks(repositoryUrl, "getDependencySnapshotPom()");
+		return Internal._getSnapshotPom(repositoryUrl, project, version, Internal.dependencySections);
+	}
+
 	private <T extends Object> void runChecks(@Nullable T object, String method)
 	{
 		Checks.notNull(project, "GalacticraftProject is not set and returning null. Did you use 'setProject(GalacticProject project)'?");
@@ -109,6 +109,16 @@ class MetadataVersion implements Comparable<MetadataVersion>
      */
     private final String[] idents;
 
+    /**
+     * The string representation, built on first use.
+     */
+    private String string;
+
+    /**
+     * The hash code, calculated on first use.
+     */
+    private int hash;
+
     /**
      * Constructs a {@code MetadataVersion} instance with identifiers.
      * 
@@ -119,6 +129,16 @@ class MetadataVersion implements Comparable<MetadataVersion>
         idents = identifiers;
     }
 
+    /**
+     * Returns the identifiers of the metadata version.
+     *
+     * @return the identifiers, which must not be modified
+     */
+    String[] getIdentifiers()
+    {
+        return idents;
+    }
+
     /**
      * Increments the metadata version.
      *
@@ -130,6 +150,8 @@ class MetadataVersion implements Comparable<MetadataVersion>
         String lastId = ids[ids.length - 1];
         if (isInt(lastId)) {
             int intId = Integer.parseInt(lastId);
+            // copy first, this instance is immutable and may be shared
+            ids = ids.clone();
             ids[ids.length - 1] = String.valueOf(++intId);
         } else {
             ids = Arrays.copyOf(ids, ids.length + 1);
@@ -159,7 +181,12 @@ class MetadataVersion implements Comparable<MetadataVersion>
     @Override
     public int hashCode()
     {
-        return Arrays.hashCode(idents);
+        int h = hash;
+        if (h == 0) {
+            h = Arrays.hashCode(idents);
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -168,11 +195,12 @@ class MetadataVersion implements Comparable<MetadataVersion>
     @Override
     public String toString()
     {
-        StringBuilder sb = new StringBuilder();
-        for (String ident : idents) {
-            sb.append(ident).append(".");
+        String s = string;
+        if (s == null) {
+            s = String.join(".", idents);
+            string = s;
         }
-        return sb.deleteCharAt(sb.lastIndexOf(".")).toString();
+        return s;
     }
 
     /**
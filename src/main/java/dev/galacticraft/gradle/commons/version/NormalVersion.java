@@ -28,7 +28,6 @@ package dev.galacticraft.gradle.commons.version;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * The {@code NormalVersion} class represents the version core. This class is immutable and hence thread-safe.
@@ -142,6 +141,16 @@ class NormalVersion implements Comparable<NormalVersion>
 
     private final List<Integer> remaining = new LinkedList<>();
 
+    /**
+     * The string representation, built on first use.
+     */
+    private String string;
+
+    /**
+     * The hash code, calculated on first use.
+     */
+    private int hash;
+
     /**
      * Constructs a {@code NormalVersion} with the major, minor and patch version numbers.
      *
@@ -163,6 +172,8 @@ class NormalVersion implements Comparable<NormalVersion>
     NormalVersion addRemainingIntegers(Integer... integers)
     {
         this.remaining.addAll(Arrays.asList(integers));
+        this.string = null;
+        this.hash = 0;
         return this;
     }
 
@@ -226,6 +237,26 @@ class NormalVersion implements Comparable<NormalVersion>
         return new NormalVersion(major, minor, patch + 1);
     }
 
+    /**
+     * Checks if the version core carries numbers beyond the patch version number.
+     *
+     * @return {@code true} if there are further numbers or {@code false} otherwise
+     */
+    boolean hasRemainingIntegers()
+    {
+        return !remaining.isEmpty();
+    }
+
+    /**
+     * Returns the numbers beyond the patch version number.
+     *
+     * @return the further numbers, which must not be modified
+     */
+    List<Integer> getRemainingIntegers()
+    {
+        return remaining;
+    }
+
     int getRemainingTotal()
     {
         return remaining.stream().mapToInt(Integer::valueOf).sum();
@@ -271,13 +302,17 @@ class NormalVersion implements Comparable<NormalVersion>
     @Override
     public int hashCode()
     {
-        int hash = 17;
-        hash = 31 * hash + major;
-        hash = 31 * hash + minor;
-        hash = 31 * hash + patch;
-        for (int i : remaining)
-            hash = 31 * hash + i;
-        return hash;
+        int h = hash;
+        if (h == 0) {
+            h = 17;
+            h = 31 * h + major;
+            h = 31 * h + minor;
+            h = 31 * h + patch;
+            for (int i : remaining)
+                h = 31 * h + i;
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -290,10 +325,14 @@ class NormalVersion implements Comparable<NormalVersion>
     @Override
     public String toString()
     {
-        if (remaining.isEmpty())
-            return String.format("%d.%d.%d", major, minor, patch);
-        else
-            return String.format("%d.%d.%d.%s", major, minor, patch,
-                String.join(".", remaining.stream().map(String::valueOf).collect(Collectors.toList())));
+        String s = string;
+        if (s == null) {
+            StringBuilder sb = new StringBuilder().append(major).append('.').append(minor).append('.').append(patch);
+            for (int i : remaining)
+                sb.append('.').append(i);
+            s = sb.toString();
+            string = s;
+        }
+        return s;
     }
 }
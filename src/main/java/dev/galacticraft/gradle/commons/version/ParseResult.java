@@ -0,0 +1,187 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * The outcome of parsing a version without throwing exceptions. It either holds the parsed value or the reason and
+ * offset of the failure. This class is immutable and hence thread-safe.
+ *
+ * @param <T> the type of the parsed value
+ */
+public final class ParseResult<T>
+{
+
+    /**
+     * The reasons for which parsing can fail.
+     */
+    public enum Error
+    {
+        /**
+         * The input string is {@code NULL} or empty.
+         */
+        EMPTY_INPUT,
+
+        /**
+         * A character of an unexpected type was found, or the input ended too early.
+         */
+        UNEXPECTED_CHARACTER,
+
+        /**
+         * A numeric identifier has leading zeroes.
+         */
+        LEADING_ZERO,
+
+        /**
+         * A pre-release or build identifier is empty.
+         */
+        EMPTY_IDENTIFIER,
+
+        /**
+         * A version number does not fit into an {@code int}.
+         */
+        NUMBER_OVERFLOW
+    }
+
+    /**
+     * The parsed value or {@code null} if parsing failed.
+     */
+    private final T value;
+
+    /**
+     * The reason of the failure or {@code null} if parsing succeeded.
+     */
+    private final Error error;
+
+    /**
+     * The offset in the input string at which parsing failed.
+     */
+    private final int offset;
+
+    /**
+     * Constructs a {@code ParseResult} instance.
+     *
+     * @param value the parsed value
+     * @param error the reason of the failure
+     * @param offset the offset of the failure
+     */
+    private ParseResult(T value, Error error, int offset)
+    {
+        this.value = value;
+        this.error = error;
+        this.offset = offset;
+    }
+
+    /**
+     * Creates a result holding the parsed value.
+     *
+     * @param <T> the type of the parsed value
+     * @param value the parsed value
+     * @return a successful result
+     */
+    public static <T> ParseResult<T> success(T value)
+    {
+        return new ParseResult<T>(value, null, -1);
+    }
+
+    /**
+     * Creates a result describing a failure.
+     *
+     * @param <T> the type of the value which could not be parsed
+     * @param error the reason of the failure
+     * @param offset the offset in the input string at which parsing failed
+     * @return a failed result
+     */
+    public static <T> ParseResult<T> failure(Error error, int offset)
+    {
+        return new ParseResult<T>(null, error, offset);
+    }
+
+    /**
+     * Checks if parsing succeeded.
+     *
+     * @return {@code true} if there is a parsed value or {@code false} otherwise
+     */
+    public boolean isSuccess()
+    {
+        return error == null;
+    }
+
+    /**
+     * Returns the parsed value.
+     *
+     * @return the parsed value
+     * @throws NoSuchElementException if parsing failed
+     */
+    public T getValue()
+    {
+        if (error != null) {
+            throw new NoSuchElementException("Parsing failed with " + error + " at offset " + offset);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the reason of the failure.
+     *
+     * @return the reason of the failure or {@code null} if parsing succeeded
+     */
+    public Error getError()
+    {
+        return error;
+    }
+
+    /**
+     * Returns the offset in the input string at which parsing failed.
+     *
+     * @return the offset of the failure or {@code -1} if parsing succeeded
+     */
+    public int getOffset()
+    {
+        return offset;
+    }
+
+    /**
+     * Returns the parsed value as an {@code Optional}.
+     *
+     * @return the parsed value or an empty {@code Optional} if parsing failed
+     */
+    public Optional<T> toOptional()
+    {
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return error == null ? "ParseResult[" + value + "]" : "ParseResult[" + error + " at " + offset + "]";
+    }
+}
@@ -25,10 +25,14 @@
 
 package dev.galacticraft.gradle.commons.version;
 
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 
 import dev.galacticraft.gradle.commons.version.expr.Expression;
-import dev.galacticraft.gradle.commons.version.expr.ExpressionParser;
+import dev.galacticraft.gradle.commons.version.expr.ExpressionCache;
 import dev.galacticraft.gradle.commons.version.expr.ExpressionParser.UnexpectedTokenException;
 import dev.galacticraft.gradle.commons.version.expr.LexerException;
 
@@ -53,6 +57,62 @@ public class Version implements Comparable<Version>
      */
     private final MetadataVersion build;
 
+    /**
+     * The precedence of the version core and the pre-release presence packed into a single {@code long}, or
+     * {@link #NO_SORT_KEY} if the version cannot be packed.
+     */
+    private final long sortKey;
+
+    /**
+     * The string representation, built on first use.
+     */
+    private String string;
+
+    /**
+     * The hash code, calculated on first use.
+     */
+    private int hash;
+
+    /**
+     * The sort key of versions which fall back to the full comparison.
+     */
+    private static final long NO_SORT_KEY = -1L;
+
+    /**
+     * The number of bits of the sort key holding the major version number.
+     */
+    private static final int MAJOR_BITS = 21;
+
+    /**
+     * The number of bits of the sort key holding the minor version number.
+     */
+    private static final int MINOR_BITS = 21;
+
+    /**
+     * The number of bits of the sort key holding the patch version number.
+     */
+    private static final int PATCH_BITS = 20;
+
+    /**
+     * The flag of the binary format marking the Null version.
+     */
+    private static final int NULL_FLAG = 1;
+
+    /**
+     * The flag of the binary format marking numbers beyond the patch version number.
+     */
+    private static final int REMAINING_FLAG = 2;
+
+    /**
+     * The flag of the binary format marking a pre-release version.
+     */
+    private static final int PRE_RELEASE_FLAG = 4;
+
+    /**
+     * The flag of the binary format marking build metadata.
+     */
+    private static final int BUILD_FLAG = 8;
+
     /**
      * A separator that separates the pre-release version from the normal version.
      */
@@ -63,6 +123,11 @@ public class Version implements Comparable<Version>
      */
     private static final String BUILD_PREFIX = "+";
 
+    /**
+     * The identifiers of the Null metadata version.
+     */
+    private static final String[] NO_IDENTIFIERS = new String[0];
+
     /**
      * A mutable builder for the immutable {@code Version} class.
      */
@@ -260,6 +325,32 @@ public class Version implements Comparable<Version>
         this.normal = normal;
         this.preRelease = preRelease;
         this.build = build;
+        this.sortKey = sortKey(normal, preRelease);
+    }
+
+    /**
+     * Packs the version numbers and the pre-release presence into a key which orders like {@link #compareTo(Version)}
+     * as long as the keys differ. The patch version number takes the bits above the lowest one, which is set for
+     * normal versions as they have a higher precedence than the associated pre-release versions. (SemVer p.9)
+     *
+     * @param normal the normal version
+     * @param preRelease the pre-release version
+     * @return the packed sort key or {@link #NO_SORT_KEY} if a version number does not fit or the normal version
+     *         carries further numbers
+     */
+    private static long sortKey(NormalVersion normal, MetadataVersion preRelease)
+    {
+        if (normal == NormalVersion.NULL || normal.hasRemainingIntegers()) {
+            return NO_SORT_KEY;
+        }
+        long major = normal.getMajor();
+        long minor = normal.getMinor();
+        long patch = normal.getPatch();
+        if (major >>> MAJOR_BITS != 0 || minor >>> MINOR_BITS != 0 || patch >>> PATCH_BITS != 0) {
+            return NO_SORT_KEY;
+        }
+        long key = major << (MINOR_BITS + PATCH_BITS + 1) | minor << (PATCH_BITS + 1) | patch << 1;
+        return preRelease == MetadataVersion.NULL ? key | 1L : key;
     }
 
     /**
@@ -286,6 +377,88 @@ public class Version implements Comparable<Version>
         return VersionParser.parseValidSemVer(version);
     }
 
+    /**
+     * Parses the version string without throwing exceptions, which makes it cheap to skip strings which are no valid
+     * versions.
+     *
+     * @param version the version string to parse
+     * @return the parsed version or the reason and offset of the failure
+     */
+    public static ParseResult<Version> tryParse(String version)
+    {
+        return VersionParser.tryParseValidSemVer(version);
+    }
+
+    /**
+     * Reads a version written by {@link #writeTo(VersionEncoder)}.
+     *
+     * @param in the decoder to read from
+     * @return a new instance of the {@code Version} class
+     * @throws IOException if reading fails
+     * @throws StreamCorruptedException if the stream holds no valid version
+     */
+    public static Version readFrom(VersionDecoder in) throws IOException
+    {
+        int flags = in.readByte();
+        if ((flags & ~(NULL_FLAG | REMAINING_FLAG | PRE_RELEASE_FLAG | BUILD_FLAG)) != 0) {
+            throw new StreamCorruptedException("Unknown version flags " + flags);
+        }
+        NormalVersion normal = NormalVersion.NULL;
+        if ((flags & NULL_FLAG) == 0) {
+            normal = new NormalVersion(in.readVarInt(), in.readVarInt(), in.readVarInt());
+            if ((flags & REMAINING_FLAG) != 0) {
+                int count = in.readVarInt();
+                Integer[] remaining = new Integer[Math.min(count, VersionDecoder.INITIAL_CAPACITY)];
+                for (int i = 0; i < count; i++) {
+                    if (i == remaining.length) {
+                        remaining = Arrays.copyOf(remaining, (int) Math.min(count, 2L * i));
+                    }
+                    remaining[i] = in.readVarInt();
+                }
+                normal.addRemainingIntegers(remaining);
+            }
+        }
+        MetadataVersion preRelease = (flags & PRE_RELEASE_FLAG) != 0 ? readMetadata(in) : MetadataVersion.NULL;
+        MetadataVersion build = (flags & BUILD_FLAG) != 0 ? readMetadata(in) : MetadataVersion.NULL;
+        return new Version(normal, preRelease, build);
+    }
+
+    /**
+     * Reads the identifiers of a pre-release version or build metadata.
+     *
+     * @param in the decoder to read from
+     * @return the metadata version
+     * @throws IOException if reading fails
+     * @throws StreamCorruptedException if there are no identifiers
+     */
+    private static MetadataVersion readMetadata(VersionDecoder in) throws IOException
+    {
+        String[] identifiers = in.readIdentifiers();
+        if (identifiers.length == 0) {
+            throw new StreamCorruptedException("Metadata version without identifiers");
+        }
+        return new MetadataVersion(identifiers);
+    }
+
+    /**
+     * Creates a new instance of {@code Version} from a version of the second engine. The version numbers and
+     * identifiers are taken over as they are, so the version string is neither built nor parsed again.
+     *
+     * @param version the version to convert
+     * @return a new instance of the {@code Version} class
+     * @see #toV2()
+     */
+    public static Version from(dev.galacticraft.gradle.commons.versionv2.Version version)
+    {
+        String[] preRelease = version.getPreReleaseParts();
+        String[] build = version.getBuildMetaDataParts();
+        return new Version(
+            new NormalVersion(version.getMajor(), version.getMinor(), version.getPatch()),
+            preRelease.length > 0 ? new MetadataVersion(preRelease) : MetadataVersion.NULL,
+            build.length > 0 ? new MetadataVersion(build) : MetadataVersion.NULL
+        );
+    }
+
     /**
      * Creates a new instance of {@code Version} for the specified version numbers.
      *
@@ -332,6 +505,8 @@ public class Version implements Comparable<Version>
      * Checks if this version satisfies the specified SemVer Expression string. This method is a part of the SemVer
      * Expressions API.
      *
+     * The expression is compiled once and kept in the {@link ExpressionCache#shared() shared expression cache}.
+     *
      * @param expr the SemVer Expression string
      * @return {@code true} if this version satisfies the specified SemVer Expression or {@code false} otherwise
      * @throws ParseException in case of a general parse error
@@ -341,8 +516,7 @@ public class Version implements Comparable<Version>
      */
     public boolean satisfies(String expr)
     {
-        Parser<Expression> parser = ExpressionParser.newInstance();
-        return satisfies(parser.parse(expr));
+        return satisfies(ExpressionCache.shared().parse(expr));
     }
 
     /**
@@ -538,6 +712,20 @@ public class Version implements Comparable<Version>
         return build.toString();
     }
 
+    /**
+     * Returns the version numbers and the pre-release presence packed into a single {@code long}. Versions with
+     * different keys compare like their keys, and versions with the same key compare equal if the lowest bit, which
+     * marks versions without pre-release, is set. Otherwise the pre-release versions decide.
+     *
+     * @return the packed key or {@code -1} if a version number does not fit or the normal version carries further
+     *         numbers
+     * @see #compareTo(Version)
+     */
+    public long getSortKey()
+    {
+        return sortKey;
+    }
+
     /**
      * Checks if this version is greater than the other version.
      *
@@ -659,10 +847,14 @@ public class Version implements Comparable<Version>
     @Override
     public int hashCode()
     {
-        int hash = 5;
-        hash = 97 * hash + normal.hashCode();
-        hash = 97 * hash + preRelease.hashCode();
-        return hash;
+        int h = hash;
+        if (h == 0) {
+            h = 5;
+            h = 97 * h + normal.hashCode();
+            h = 97 * h + preRelease.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -671,14 +863,95 @@ public class Version implements Comparable<Version>
     @Override
     public String toString()
     {
-        StringBuilder sb = new StringBuilder(getNormalVersion());
-        if (!getPreReleaseVersion().isEmpty()) {
-            sb.append(PRE_RELEASE_PREFIX).append(getPreReleaseVersion());
+        String s = string;
+        if (s == null) {
+            StringBuilder sb = new StringBuilder(getNormalVersion());
+            if (!getPreReleaseVersion().isEmpty()) {
+                sb.append(PRE_RELEASE_PREFIX).append(getPreReleaseVersion());
+            }
+            if (!getBuildMetadata().isEmpty()) {
+                sb.append(BUILD_PREFIX).append(getBuildMetadata());
+            }
+            s = sb.toString();
+            string = s;
+        }
+        return s;
+    }
+
+    /**
+     * Writes this version in the compact binary format: a byte of flags, the version numbers as variable-length
+     * integers and the identifiers of the pre-release version and build metadata as references to the string table.
+     *
+     * @param out the encoder to write to
+     * @throws IOException if writing fails
+     * @see #readFrom(VersionDecoder)
+     */
+    public void writeTo(VersionEncoder out) throws IOException
+    {
+        List<Integer> remaining = normal.getRemainingIntegers();
+        int flags = 0;
+        if (normal == NormalVersion.NULL) {
+            flags |= NULL_FLAG;
+        } else if (!remaining.isEmpty()) {
+            flags |= REMAINING_FLAG;
+        }
+        if (preRelease != MetadataVersion.NULL) {
+            flags |= PRE_RELEASE_FLAG;
+        }
+        if (build != MetadataVersion.NULL) {
+            flags |= BUILD_FLAG;
+        }
+        out.writeByte(flags);
+        if (normal != NormalVersion.NULL) {
+            out.writeVarInt(normal.getMajor());
+            out.writeVarInt(normal.getMinor());
+            out.writeVarInt(normal.getPatch());
+            if (!remaining.isEmpty()) {
+                out.writeVarInt(remaining.size());
+                for (int number : remaining) {
+                    out.writeVarInt(number);
+                }
+            }
+        }
+        if (preRelease != MetadataVersion.NULL) {
+            out.writeIdentifiers(preRelease.getIdentifiers());
+        }
+        if (build != MetadataVersion.NULL) {
+            out.writeIdentifiers(build.getIdentifiers());
+        }
+    }
+
+    /**
+     * Converts this version to a version of the second engine. The version numbers and identifiers are handed over as
+     * they are, so the version string is neither built nor parsed again.
+     *
+     * @return the converted version
+     * @throws IllegalArgumentException if this version is Null or has more than three version numbers, which the
+     *         second engine cannot represent
+     * @see #from(dev.galacticraft.gradle.commons.versionv2.Version)
+     */
+    public dev.galacticraft.gradle.commons.versionv2.Version toV2()
+    {
+        if (normal == NormalVersion.NULL) {
+            throw new IllegalArgumentException("Version is Null");
         }
-        if (!getBuildMetadata().isEmpty()) {
-            sb.append(BUILD_PREFIX).append(getBuildMetadata());
+        if (normal.hasRemainingIntegers()) {
+            throw new IllegalArgumentException("Version " + this + " has more than three version numbers");
         }
-        return sb.toString();
+        return dev.galacticraft.gradle.commons.versionv2.Version.createFromParts(
+            normal.getMajor(), normal.getMinor(), normal.getPatch(), identifiers(preRelease), identifiers(build)
+        );
+    }
+
+    /**
+     * Returns the identifiers of a pre-release version or build metadata.
+     *
+     * @param metadata the metadata version
+     * @return the identifiers, which must not be modified, or an empty array for the Null metadata version
+     */
+    private static String[] identifiers(MetadataVersion metadata)
+    {
+        return metadata == MetadataVersion.NULL ? NO_IDENTIFIERS : metadata.getIdentifiers();
     }
 
     /**
@@ -695,6 +968,12 @@ public class Version implements Comparable<Version>
     @Override
     public int compareTo(Version other)
     {
+        if (sortKey != NO_SORT_KEY && other.sortKey != NO_SORT_KEY) {
+            if (sortKey != other.sortKey) {
+                return Long.compare(sortKey, other.sortKey);
+            }
+            return preRelease.compareTo(other.preRelease);
+        }
         int result = normal.compareTo(other.normal);
         if (result == 0) {
             result = preRelease.compareTo(other.preRelease);
@@ -715,6 +994,110 @@ public class Version implements Comparable<Version>
         return BUILD_AWARE_ORDER.compare(this, other);
     }
 
+    /**
+     * Compares this version to a version of the second engine by SemVer precedence, without converting either of
+     * them. This is the order both engines share: the version numbers first, then a normal version over its
+     * pre-release versions (SemVer p.9), then the pre-release identifiers from left to right, where numeric
+     * identifiers compare by their value and rank below alphanumeric ones, which compare lexically, and a larger set
+     * of identifiers wins if all preceding ones are equal (SemVer p.11). Build metadata is ignored, as the engines
+     * disagree on where it sorts. Numbers beyond the patch version number are compared by their total, as
+     * {@link #compareTo(Version)} does.
+     *
+     * <p>
+     * For every version which can be converted the result has the sign of {@code toV2().compareTo(other)}. The
+     * natural order of this class agrees with it as well, except for pre-release identifiers which start with a
+     * hyphen, numeric identifiers beyond the {@code int} range and numeric identifiers compared to alphanumeric ones,
+     * which it compares lexically.
+     *
+     * @param other the version of the second engine to compare to
+     * @return integer result of comparison compatible with that of the {@code Comparable.compareTo} method
+     * @throws IllegalArgumentException if this version is Null
+     */
+    public int comparePrecedence(dev.galacticraft.gradle.commons.versionv2.Version other)
+    {
+        if (normal == NormalVersion.NULL) {
+            throw new IllegalArgumentException("Version is Null");
+        }
+        int result = Integer.compare(normal.getMajor(), other.getMajor());
+        if (result == 0) {
+            result = Integer.compare(normal.getMinor(), other.getMinor());
+        }
+        if (result == 0) {
+            result = Integer.compare(normal.getPatch(), other.getPatch());
+        }
+        if (result == 0 && normal.hasRemainingIntegers()) {
+            result = Integer.signum(normal.getRemainingTotal());
+        }
+        if (result == 0) {
+            if (preRelease == MetadataVersion.NULL) {
+                result = other.isPreRelease() ? 1 : 0;
+            } else if (!other.isPreRelease()) {
+                result = -1;
+            } else {
+                result = comparePrecedence(preRelease.getIdentifiers(), other.getPreReleaseParts());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compares two sets of pre-release identifiers by SemVer precedence.
+     *
+     * @param idents the identifiers of this version
+     * @param otherIdents the identifiers of the other version
+     * @return integer result of comparison compatible with the {@code Comparable.compareTo} method
+     */
+    private static int comparePrecedence(String[] idents, String[] otherIdents)
+    {
+        int length = Math.min(idents.length, otherIdents.length);
+        for (int i = 0; i < length; i++) {
+            int result = comparePrecedence(idents[i], otherIdents[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(idents.length, otherIdents.length);
+    }
+
+    /**
+     * Compares two pre-release identifiers by SemVer precedence.
+     *
+     * @param ident the first identifier
+     * @param otherIdent the second identifier
+     * @return integer result of comparison compatible with the {@code Comparable.compareTo} method
+     */
+    private static int comparePrecedence(String ident, String otherIdent)
+    {
+        boolean numeric = isNumeric(ident);
+        boolean otherNumeric = isNumeric(otherIdent);
+        if (numeric && otherNumeric) {
+            // numeric identifiers have no leading zeroes, so the longer one is the larger number
+            int result = Integer.compare(ident.length(), otherIdent.length());
+            return result != 0 ? result : ident.compareTo(otherIdent);
+        }
+        if (numeric != otherNumeric) {
+            return numeric ? -1 : 1;
+        }
+        return ident.compareTo(otherIdent);
+    }
+
+    /**
+     * Checks if the identifier consists of digits only.
+     *
+     * @param ident the identifier to check
+     * @return {@code true} if the identifier is numeric or {@code false} otherwise
+     */
+    private static boolean isNumeric(String ident)
+    {
+        for (int i = 0; i < ident.length(); i++) {
+            char c = ident.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public boolean isNullVersion()
     {
         return this.normal.equals(NormalVersion.NULL);
@@ -0,0 +1,249 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads versions written by {@link VersionEncoder}.
+ *
+ * The stream is read through an internal buffer, so no further buffering is needed. Every identifier of the string
+ * table is read and checked once and then shared by all versions referring to it, so apart from the versions
+ * themselves reading hardly allocates.
+ *
+ * The version classes and {@code VersionSet} read themselves with their {@code readFrom} methods. This class is not
+ * thread-safe.
+ *
+ * @see Version#readFrom(VersionDecoder)
+ */
+public final class VersionDecoder implements Closeable
+{
+    /**
+     * The stream to read from.
+     */
+    private final InputStream in;
+
+    /**
+     * The bytes read from the stream.
+     */
+    private final byte[] buffer = new byte[8192];
+
+    /**
+     * The position of the next byte in the buffer.
+     */
+    private int position;
+
+    /**
+     * The number of bytes in the buffer.
+     */
+    private int limit;
+
+    /**
+     * The identifiers read so far, indexed by their position in the string table.
+     */
+    private String[] strings = new String[64];
+
+    /**
+     * The number of identifiers in the string table.
+     */
+    private int stringCount;
+
+    /**
+     * The most elements allocated up front for a length read from the stream. Lengths are not trusted, so arrays
+     * start at most this large and grow as their elements are actually read.
+     */
+    static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Constructs a {@code VersionDecoder} reading from the stream, and checks the header.
+     *
+     * @param in the stream to read from
+     * @throws IOException if the header cannot be read
+     * @throws StreamCorruptedException if the stream was not written by a {@code VersionEncoder}
+     */
+    public VersionDecoder(InputStream in) throws IOException
+    {
+        this.in = in;
+        int magic = readByte() << 8 | readByte();
+        if (magic != VersionEncoder.MAGIC) {
+            throw new StreamCorruptedException("Not a version stream");
+        }
+        int format = readByte();
+        if (format != VersionEncoder.FORMAT) {
+            throw new StreamCorruptedException("Unsupported format " + format);
+        }
+    }
+
+    /**
+     * Reads a single byte.
+     *
+     * @return the byte read, as an integer between {@code 0} and {@code 255}
+     * @throws EOFException if the stream ends
+     * @throws IOException if reading fails
+     */
+    public int readByte() throws IOException
+    {
+        if (position == limit) {
+            fill();
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * Reads a non-negative integer written by {@link VersionEncoder#writeVarInt(int)}.
+     *
+     * @return the integer read
+     * @throws StreamCorruptedException if the integer does not fit into an {@code int}
+     * @throws IOException if reading fails
+     */
+    public int readVarInt() throws IOException
+    {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+            if (shift == 28 && b > 0x07) {
+                break;
+            }
+            value |= (b & 0x7F) << shift;
+            if (b < 0x80) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Variable-length integer out of range");
+    }
+
+    /**
+     * Reads an identifier written by {@link VersionEncoder#writeIdentifier(String)}.
+     *
+     * @return the identifier read
+     * @throws StreamCorruptedException if the identifier refers to an unknown index or is no valid identifier
+     * @throws IOException if reading fails
+     */
+    public String readIdentifier() throws IOException
+    {
+        int reference = readVarInt();
+        if (reference > 0) {
+            if (reference > stringCount) {
+                throw new StreamCorruptedException("Unknown identifier " + reference);
+            }
+            return strings[reference - 1];
+        }
+        int length = readVarInt();
+        if (length == 0) {
+            throw new StreamCorruptedException("Empty identifier");
+        }
+        byte[] bytes = length <= buffer.length ? buffer : new byte[buffer.length];
+        int offset = 0;
+        if (bytes == buffer) {
+            if (limit - position < length) {
+                // moves the remaining bytes to the front to read the identifier in one piece
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= position;
+                position = 0;
+                while (limit < length) {
+                    int read = in.read(buffer, limit, buffer.length - limit);
+                    if (read < 0) {
+                        throw new EOFException();
+                    }
+                    limit += read;
+                }
+            }
+            offset = position;
+            position += length;
+        } else {
+            for (int i = 0; i < length; i++) {
+                if (i == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * i));
+                }
+                bytes[i] = (byte) readByte();
+            }
+        }
+        for (int i = offset; i < offset + length; i++) {
+            int c = bytes[i];
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '-')) {
+                throw new StreamCorruptedException("Illegal character in identifier");
+            }
+        }
+        String identifier = new String(bytes, offset, length, StandardCharsets.US_ASCII);
+        if (stringCount == strings.length) {
+            strings = Arrays.copyOf(strings, stringCount * 2);
+        }
+        strings[stringCount++] = identifier;
+        return identifier;
+    }
+
+    /**
+     * Reads an array of identifiers written by {@link VersionEncoder#writeIdentifiers(String[])}.
+     *
+     * @return the identifiers read
+     * @throws IOException if reading fails
+     */
+    public String[] readIdentifiers() throws IOException
+    {
+        int length = readVarInt();
+        String[] identifiers = new String[Math.min(length, INITIAL_CAPACITY)];
+        for (int i = 0; i < length; i++) {
+            if (i == identifiers.length) {
+                identifiers = Arrays.copyOf(identifiers, (int) Math.min(length, 2L * i));
+            }
+            identifiers[i] = readIdentifier();
+        }
+        return identifiers;
+    }
+
+    /**
+     * Closes the stream.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException
+    {
+        in.close();
+    }
+
+    /**
+     * Reads the next bytes of the stream into the empty buffer.
+     *
+     * @throws EOFException if the stream ends
+     * @throws IOException if reading fails
+     */
+    private void fill() throws IOException
+    {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            throw new EOFException();
+        }
+        position = 0;
+        limit = read;
+    }
+}
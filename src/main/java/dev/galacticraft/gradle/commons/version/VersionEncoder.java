@@ -0,0 +1,211 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes versions in a compact binary format which is read back by {@link VersionDecoder}.
+ *
+ * Numbers are written as variable-length integers of seven bits per byte, so version numbers below 128 take a single
+ * byte. Identifiers are written in full the first time only and referred to by their index in a string table after
+ * that. The stream starts with a short header so that files of another format are detected when reading.
+ *
+ * The version classes and {@code VersionSet} write themselves with their {@code writeTo} methods. This class is not
+ * thread-safe.
+ *
+ * @see Version#writeTo(VersionEncoder)
+ */
+public final class VersionEncoder implements Closeable, Flushable
+{
+    /**
+     * The bytes every stream starts with.
+     */
+    static final int MAGIC = 0x5645;
+
+    /**
+     * The revision of the format written by this class.
+     */
+    static final int FORMAT = 1;
+
+    /**
+     * The stream to write to.
+     */
+    private final OutputStream out;
+
+    /**
+     * The bytes not yet written to the stream.
+     */
+    private final byte[] buffer = new byte[8192];
+
+    /**
+     * The number of bytes in the buffer.
+     */
+    private int count;
+
+    /**
+     * The index of every identifier written so far.
+     */
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    /**
+     * Constructs a {@code VersionEncoder} writing to the stream, and writes the header.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the header cannot be written
+     */
+    public VersionEncoder(OutputStream out) throws IOException
+    {
+        this.out = out;
+        writeByte(MAGIC >>> 8);
+        writeByte(MAGIC & 0xFF);
+        writeByte(FORMAT);
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param value the byte to write, only the lowest eight bits are written
+     * @throws IOException if writing fails
+     */
+    public void writeByte(int value) throws IOException
+    {
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = (byte) value;
+    }
+
+    /**
+     * Writes a non-negative integer in as few bytes as possible.
+     *
+     * @param value the integer to write
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if the integer is negative
+     */
+    public void writeVarInt(int value) throws IOException
+    {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value " + value);
+        }
+        if (count + 5 > buffer.length) {
+            flushBuffer();
+        }
+        while (value >= 0x80) {
+            buffer[count++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        buffer[count++] = (byte) value;
+    }
+
+    /**
+     * Writes an identifier. An identifier written before is written as its index in the string table, a new one as
+     * the marker {@code 0} followed by its length and its characters.
+     *
+     * @param identifier the identifier to write
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if the identifier contains other than ASCII characters
+     */
+    public void writeIdentifier(String identifier) throws IOException
+    {
+        Integer index = strings.get(identifier);
+        if (index != null) {
+            writeVarInt(index + 1);
+            return;
+        }
+        int length = identifier.length();
+        for (int i = 0; i < length; i++) {
+            if (identifier.charAt(i) > 0x7F) {
+                throw new IllegalArgumentException("Identifier '" + identifier + "' is not ASCII");
+            }
+        }
+        strings.put(identifier, strings.size());
+        writeVarInt(0);
+        writeVarInt(length);
+        for (int i = 0; i < length; i++) {
+            writeByte(identifier.charAt(i));
+        }
+    }
+
+    /**
+     * Writes an array of identifiers preceded by their number.
+     *
+     * @param identifiers the identifiers to write
+     * @throws IOException if writing fails
+     */
+    public void writeIdentifiers(String[] identifiers) throws IOException
+    {
+        writeVarInt(identifiers.length);
+        for (String identifier : identifiers) {
+            writeIdentifier(identifier);
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the stream and flushes it.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void flush() throws IOException
+    {
+        flushBuffer();
+        out.flush();
+    }
+
+    /**
+     * Writes the buffered bytes and closes the stream.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void close() throws IOException
+    {
+        try {
+            flushBuffer();
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the stream.
+     *
+     * @throws IOException if writing fails
+     */
+    private void flushBuffer() throws IOException
+    {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A flyweight factory which hands out a single {@code Version} instance
+ * for every distinct version string.
+ *
+ * The canonical instances are only weakly reachable from the interner,
+ * so versions nobody refers to anymore are still garbage collected.
+ * Since {@code Version} is immutable the instances can be shared freely,
+ * and {@link Version#equals(Object)} returns on identity first.
+ *
+ * This class is thread-safe.
+ */
+public final class VersionInterner
+{
+    /**
+     * The interner used by {@link Versions#useInterning(boolean)}.
+     */
+    private static final VersionInterner SHARED = new VersionInterner();
+
+    /**
+     * The canonical instances keyed by the string they were parsed from.
+     */
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The queue of entries whose versions were garbage collected.
+     */
+    private final ReferenceQueue<Version> collected = new ReferenceQueue<>();
+
+    /**
+     * A weak reference to a canonical instance which remembers its key.
+     */
+    private static final class Entry extends WeakReference<Version>
+    {
+        /**
+         * The version string the referent was parsed from.
+         */
+        private final String key;
+
+        /**
+         * Constructs an {@code Entry} for the canonical instance.
+         *
+         * @param key the version string
+         * @param version the canonical instance
+         * @param queue the queue to register the reference with
+         */
+        private Entry(String key, Version version, ReferenceQueue<Version> queue)
+        {
+            super(version, queue);
+            this.key = key;
+        }
+    }
+
+    /**
+     * Returns the interner shared by the whole class loader.
+     *
+     * @return the shared {@code VersionInterner}
+     */
+    public static VersionInterner shared()
+    {
+        return SHARED;
+    }
+
+    /**
+     * Returns the canonical instance for the version string,
+     * parsing it only if there is no live instance yet.
+     *
+     * @param version the version string to parse
+     * @return the canonical instance of the {@code Version} class
+     * @throws IllegalArgumentException if the input string is {@code NULL} or empty
+     * @throws ParseException when invalid version string is provided
+     * @throws UnexpectedCharacterException is a special case of {@code ParseException}
+     */
+    public Version intern(String version)
+    {
+        Version canonical = lookup(version);
+        if (canonical != null) {
+            return canonical;
+        }
+        return register(version, Version.of(version));
+    }
+
+    /**
+     * Returns the canonical instance for the version string without throwing exceptions, parsing it only if there is
+     * no live instance yet.
+     *
+     * @param version the version string to parse
+     * @return the canonical instance or the reason and offset of the parse failure
+     * @see Version#tryParse(String)
+     */
+    public ParseResult<Version> tryIntern(String version)
+    {
+        Version canonical = version == null || version.isEmpty() ? null : lookup(version);
+        if (canonical != null) {
+            return ParseResult.success(canonical);
+        }
+        ParseResult<Version> result = Version.tryParse(version);
+        return result.isSuccess() ? ParseResult.success(register(version, result.getValue())) : result;
+    }
+
+    /**
+     * Returns the live canonical instance for the version string.
+     *
+     * @param version the version string
+     * @return the canonical instance or {@code null} if there is none
+     */
+    private Version lookup(String version)
+    {
+        expungeCollected();
+        Entry entry = entries.get(version);
+        return entry == null ? null : entry.get();
+    }
+
+    /**
+     * Registers the parsed version as canonical instance unless another thread registered one first.
+     *
+     * @param version the version string
+     * @param parsed the version parsed from the string
+     * @return the canonical instance
+     */
+    private Version register(String version, Version parsed)
+    {
+        while (true) {
+            Entry created = new Entry(version, parsed, collected);
+            Entry entry = entries.putIfAbsent(version, created);
+            if (entry == null) {
+                return parsed;
+            }
+            Version canonical = entry.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            if (entries.replace(version, entry, created)) {
+                return parsed;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of version strings currently interned.
+     * The count may include versions which were just garbage collected.
+     *
+     * @return the number of interned versions
+     */
+    public int size()
+    {
+        expungeCollected();
+        return entries.size();
+    }
+
+    /**
+     * Removes the entries of garbage collected versions.
+     */
+    private void expungeCollected()
+    {
+        Entry entry;
+        while ((entry = (Entry) collected.poll()) != null) {
+            entries.remove(entry.key, entry);
+        }
+    }
+}
@@ -38,6 +38,9 @@ import java.util.List;
 
 /**
  * A parser for the SemVer Version.
+ * <p>
+ * The static entry points used by {@link Version} delegate to the {@link VersionScanner}, which accepts the same
+ * grammar without boxing every character into an {@code ElementStream}.
  */
 class VersionParser implements Parser<Version>
 {
@@ -205,9 +208,18 @@ class VersionParser implements Parser<Version>
      */
     static Version parseValidSemVer(String version)
     {
-        String strippedVer = version.startsWith("v") ? version.substring(1) : version;
-        VersionParser parser = new VersionParser(strippedVer);
-        return parser.parseValidSemVer();
+        return VersionScanner.parseValidSemVer(version);
+    }
+
+    /**
+     * Parses the whole version including pre-release version and build metadata without throwing exceptions.
+     *
+     * @param version the version string to parse
+     * @return the parsed version or the reason and offset of the failure
+     */
+    static ParseResult<Version> tryParseValidSemVer(String version)
+    {
+        return VersionScanner.tryParseValidSemVer(version);
     }
 
     /**
@@ -221,8 +233,7 @@ class VersionParser implements Parser<Version>
      */
     static NormalVersion parseVersionCore(String versionCore)
     {
-        VersionParser parser = new VersionParser(versionCore);
-        return parser.parseVersionCore();
+        return VersionScanner.parseVersionCore(versionCore);
     }
 
     /**
@@ -236,8 +247,7 @@ class VersionParser implements Parser<Version>
      */
     static MetadataVersion parsePreRelease(String preRelease)
     {
-        VersionParser parser = new VersionParser(preRelease);
-        return parser.parsePreRelease();
+        return VersionScanner.parsePreRelease(preRelease);
     }
 
     /**
@@ -251,8 +261,7 @@ class VersionParser implements Parser<Version>
      */
     static MetadataVersion parseBuild(String build)
     {
-        VersionParser parser = new VersionParser(build);
-        return parser.parseBuild();
+        return VersionScanner.parseBuild(build);
     }
 
     /**
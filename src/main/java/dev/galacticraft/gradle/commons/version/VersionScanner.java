@@ -0,0 +1,662 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version;
+
+import static dev.galacticraft.gradle.commons.version.VersionParser.CharType.DIGIT;
+import static dev.galacticraft.gradle.commons.version.VersionParser.CharType.DOT;
+import static dev.galacticraft.gradle.commons.version.VersionParser.CharType.EOI;
+import static dev.galacticraft.gradle.commons.version.VersionParser.CharType.HYPHEN;
+import static dev.galacticraft.gradle.commons.version.VersionParser.CharType.LETTER;
+import static dev.galacticraft.gradle.commons.version.VersionParser.CharType.PLUS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.galacticraft.gradle.commons.version.VersionParser.CharType;
+
+/**
+ * A parser for the SemVer Version which scans the input string directly by index. It accepts the same grammar and
+ * throws the same exceptions as the {@code ElementStream} based {@link VersionParser}, but classifies characters with
+ * primitive comparisons so that no objects are created per character.
+ *
+ * The grammar methods do not throw. They record the first failure and return {@code null} or {@link #NO_VALUE}, and
+ * only the throwing entry points turn the recorded failure into an exception, which keeps
+ * {@link #tryParseValidSemVer(String)} free of exceptions.
+ *
+ * @see VersionParser
+ */
+final class VersionScanner implements Parser<Version>
+{
+
+    /**
+     * Marks the end of the input, the primitive counterpart of {@code CharType.EOI}.
+     */
+    private static final int END = -1;
+
+    /**
+     * Returned instead of a numeric value when parsing failed.
+     */
+    private static final int NO_VALUE = -1;
+
+    /**
+     * The largest number of digits which always fits into an {@code int}.
+     */
+    private static final int SAFE_INT_DIGITS = 9;
+
+    /**
+     * The input string to scan.
+     */
+    private final String input;
+
+    /**
+     * The current offset which is incremented when a character is consumed.
+     */
+    private int offset = 0;
+
+    /**
+     * The reason of the first failure or {@code null} if there was none.
+     */
+    private ParseResult.Error error;
+
+    /**
+     * The offset at which the first failure occurred.
+     */
+    private int errorOffset;
+
+    /**
+     * The end of the number which caused a {@code NUMBER_OVERFLOW} failure.
+     */
+    private int errorEnd;
+
+    /**
+     * The character types which were expected where the first failure occurred.
+     */
+    private CharType[] expected;
+
+    /**
+     * Constructs a {@code VersionScanner} instance with the input string to parse.
+     *
+     * @param input the input string to parse
+     * @throws IllegalArgumentException if the input string is {@code NULL} or empty
+     */
+    VersionScanner(String input)
+    {
+        if (input == null || input.isEmpty()) {
+            throw new IllegalArgumentException("Input string is NULL or empty");
+        }
+        this.input = input;
+    }
+
+    /**
+     * Parses the input string.
+     *
+     * @param input the input string to parse
+     * @return a valid version object
+     * @throws ParseException when there is a grammar error
+     * @throws UnexpectedCharacterException when encounters an unexpected character type
+     */
+    @Override
+    public Version parse(String input)
+    {
+        return orThrow(parseValidSemVer());
+    }
+
+    /**
+     * Parses the whole version including pre-release version and build metadata.
+     *
+     * @param version the version string to parse
+     * @return a valid version object
+     * @throws IllegalArgumentException if the input string is {@code NULL} or empty
+     * @throws ParseException when there is a grammar error
+     * @throws UnexpectedCharacterException when encounters an unexpected character type
+     */
+    static Version parseValidSemVer(String version)
+    {
+        String strippedVer = version.startsWith("v") ? version.substring(1) : version;
+        VersionScanner scanner = new VersionScanner(strippedVer);
+        return scanner.orThrow(scanner.parseValidSemVer());
+    }
+
+    /**
+     * Parses the whole version including pre-release version and build metadata without throwing exceptions.
+     *
+     * @param version the version string to parse
+     * @return the parsed version or the reason and offset of the failure, the offset counting a leading "v"
+     */
+    static ParseResult<Version> tryParseValidSemVer(String version)
+    {
+        if (version == null || version.isEmpty()) {
+            return ParseResult.failure(ParseResult.Error.EMPTY_INPUT, 0);
+        }
+        int prefix = version.startsWith("v") ? 1 : 0;
+        if (version.length() == prefix) {
+            return ParseResult.failure(ParseResult.Error.EMPTY_INPUT, prefix);
+        }
+        VersionScanner scanner = new VersionScanner(version.substring(prefix));
+        Version result = scanner.parseValidSemVer();
+        if (result == null) {
+            return ParseResult.failure(scanner.error, scanner.errorOffset + prefix);
+        }
+        return ParseResult.success(result);
+    }
+
+    /**
+     * Parses the version core.
+     *
+     * @param versionCore the version core string to parse
+     * @return a valid normal version object
+     * @throws IllegalArgumentException if the input string is {@code NULL} or empty
+     * @throws ParseException when there is a grammar error
+     * @throws UnexpectedCharacterException when encounters an unexpected character type
+     */
+    static NormalVersion parseVersionCore(String versionCore)
+    {
+        VersionScanner scanner = new VersionScanner(versionCore);
+        return scanner.orThrow(scanner.parseVersionCore());
+    }
+
+    /**
+     * Parses the pre-release version.
+     *
+     * @param preRelease the pre-release version string to parse
+     * @return a valid pre-release version object
+     * @throws IllegalArgumentException if the input string is {@code NULL} or empty
+     * @throws ParseException when there is a grammar error
+     * @throws UnexpectedCharacterException when encounters an unexpected character type
+     */
+    static MetadataVersion parsePreRelease(String preRelease)
+    {
+        VersionScanner scanner = new VersionScanner(preRelease);
+        return scanner.orThrow(scanner.parsePreRelease());
+    }
+
+    /**
+     * Parses the build metadata.
+     *
+     * @param build the build metadata string to parse
+     * @return a valid build metadata object
+     * @throws IllegalArgumentException if the input string is {@code NULL} or empty
+     * @throws ParseException when there is a grammar error
+     * @throws UnexpectedCharacterException when encounters an unexpected character type
+     */
+    static MetadataVersion parseBuild(String build)
+    {
+        VersionScanner scanner = new VersionScanner(build);
+        return scanner.orThrow(scanner.parseBuild());
+    }
+
+    /**
+     * Parses the {@literal <valid semver>} non-terminal.
+     *
+     * @return a valid version object or {@code null} if parsing failed
+     * @see VersionParser#parseValidSemVer(String)
+     */
+    private Version parseValidSemVer()
+    {
+        NormalVersion normal = parseVersionCore();
+        if (normal == null) {
+            return null;
+        }
+        MetadataVersion preRelease = MetadataVersion.NULL;
+        MetadataVersion build = MetadataVersion.NULL;
+
+        int next = lookahead(1);
+        if (next == '-') {
+            offset++;
+            preRelease = parsePreRelease();
+            if (preRelease == null) {
+                return null;
+            }
+            next = lookahead(1);
+            if (next == '+') {
+                offset++;
+                build = parseBuild();
+                if (build == null) {
+                    return null;
+                }
+            } else if (next != END) {
+                return reject(ParseResult.Error.UNEXPECTED_CHARACTER, PLUS, EOI);
+            }
+        } else if (next == '+') {
+            offset++;
+            build = parseBuild();
+            if (build == null) {
+                return null;
+            }
+        } else if (next == '.') {
+            offset++;
+            int value = numericValue();
+            if (value == NO_VALUE) {
+                return null;
+            }
+            normal.addRemainingIntegers(value);
+        } else if (next != END) {
+            return reject(ParseResult.Error.UNEXPECTED_CHARACTER, DOT, HYPHEN, PLUS, EOI);
+        }
+        if (!consumeEnd()) {
+            return null;
+        }
+        return new Version(normal, preRelease, build);
+    }
+
+    /**
+     * Parses the {@literal <version core>} non-terminal.
+     *
+     * @return a valid normal version object or {@code null} if parsing failed
+     */
+    private NormalVersion parseVersionCore()
+    {
+        int major = numericValue();
+        if (major == NO_VALUE || !consumeDot()) {
+            return null;
+        }
+        int minor = numericValue();
+        if (minor == NO_VALUE || !consumeDot()) {
+            return null;
+        }
+        int patch = numericValue();
+        if (patch == NO_VALUE) {
+            return null;
+        }
+        return new NormalVersion(major, minor, patch);
+    }
+
+    /**
+     * Parses the {@literal <pre-release>} non-terminal.
+     *
+     * @return a valid pre-release version object or {@code null} if parsing failed
+     */
+    private MetadataVersion parsePreRelease()
+    {
+        if (!ensureIdentifierLookahead()) {
+            return null;
+        }
+        List<String> idents = new ArrayList<String>();
+        do {
+            String ident = preReleaseIdentifier();
+            if (ident == null) {
+                return null;
+            }
+            idents.add(ident);
+            if (lookahead(1) == '.') {
+                offset++;
+                continue;
+            }
+            break;
+        } while (true);
+        return new MetadataVersion(idents.toArray(new String[idents.size()]));
+    }
+
+    /**
+     * Parses the {@literal <pre-release identifier>} non-terminal. An identifier is alphanumeric if a letter or a
+     * hyphen occurs before the next dot, plus or the end of input.
+     *
+     * @return a single pre-release identifier or {@code null} if parsing failed
+     */
+    private String preReleaseIdentifier()
+    {
+        if (!checkForEmptyIdentifier()) {
+            return null;
+        }
+        if (hasLetterOrHyphenBefore(nearestBoundary(true))) {
+            return alphanumericIdentifier();
+        } else {
+            return checkForLeadingZeroes() ? digits() : null;
+        }
+    }
+
+    /**
+     * Parses the {@literal <build>} non-terminal.
+     *
+     * @return a valid build metadata object or {@code null} if parsing failed
+     */
+    private MetadataVersion parseBuild()
+    {
+        if (!ensureIdentifierLookahead()) {
+            return null;
+        }
+        List<String> idents = new ArrayList<String>();
+        do {
+            String ident = buildIdentifier();
+            if (ident == null) {
+                return null;
+            }
+            idents.add(ident);
+            if (lookahead(1) == '.') {
+                offset++;
+                continue;
+            }
+            break;
+        } while (true);
+        return new MetadataVersion(idents.toArray(new String[idents.size()]));
+    }
+
+    /**
+     * Parses the {@literal <build identifier>} non-terminal. An identifier is alphanumeric if a letter or a hyphen
+     * occurs before the next dot or the end of input.
+     *
+     * @return a single build identifier or {@code null} if parsing failed
+     */
+    private String buildIdentifier()
+    {
+        if (!checkForEmptyIdentifier()) {
+            return null;
+        }
+        if (hasLetterOrHyphenBefore(nearestBoundary(false))) {
+            return alphanumericIdentifier();
+        } else {
+            return digits();
+        }
+    }
+
+    /**
+     * Parses the {@literal <numeric identifier>} non-terminal and returns its value.
+     *
+     * @return the integer value of the numeric identifier or {@link #NO_VALUE} if parsing failed, including when the
+     *         value does not fit into an {@code int}
+     */
+    private int numericValue()
+    {
+        if (!checkForLeadingZeroes()) {
+            return NO_VALUE;
+        }
+        int start = offset;
+        if (!skipDigits()) {
+            return NO_VALUE;
+        }
+        long value = 0;
+        for (int i = start; i < offset; i++) {
+            value = value * 10 + (input.charAt(i) - '0');
+            if (i - start >= SAFE_INT_DIGITS && value > Integer.MAX_VALUE) {
+                errorEnd = offset;
+                fail(ParseResult.Error.NUMBER_OVERFLOW, start);
+                return NO_VALUE;
+            }
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses the {@literal <alphanumeric identifier>} non-terminal.
+     *
+     * @return a string representing the alphanumeric identifier or {@code null} if parsing failed
+     */
+    private String alphanumericIdentifier()
+    {
+        int start = offset;
+        do {
+            if (!isIdentifierChar(lookahead(1))) {
+                return reject(ParseResult.Error.UNEXPECTED_CHARACTER, DIGIT, LETTER, HYPHEN);
+            }
+            offset++;
+        } while (isIdentifierChar(lookahead(1)));
+        return input.substring(start, offset);
+    }
+
+    /**
+     * Parses the {@literal <digits>} non-terminal.
+     *
+     * @return a string representing the digits or {@code null} if parsing failed
+     */
+    private String digits()
+    {
+        int start = offset;
+        return skipDigits() ? input.substring(start, offset) : null;
+    }
+
+    /**
+     * Consumes one or more digits.
+     *
+     * @return {@code false} if the next character is not a digit
+     */
+    private boolean skipDigits()
+    {
+        do {
+            if (!isDigit(lookahead(1))) {
+                return fail(ParseResult.Error.UNEXPECTED_CHARACTER, offset, DIGIT);
+            }
+            offset++;
+        } while (isDigit(lookahead(1)));
+        return true;
+    }
+
+    /**
+     * Finds the index of the nearest identifier boundary.
+     *
+     * @param plusIsBoundary whether a plus ends the identifier, which is the case for pre-release identifiers
+     * @return the index of the nearest dot (or plus) or the length of the input
+     */
+    private int nearestBoundary(boolean plusIsBoundary)
+    {
+        for (int i = offset; i < input.length(); i++) {
+            char chr = input.charAt(i);
+            if (chr == '.' || (plusIsBoundary && chr == '+')) {
+                return i;
+            }
+        }
+        return input.length();
+    }
+
+    /**
+     * Checks if there is a letter or a hyphen between the current offset and the specified index.
+     *
+     * @param boundary the index before which to search
+     * @return {@code true} if there is a letter or a hyphen before the boundary or {@code false} otherwise
+     */
+    private boolean hasLetterOrHyphenBefore(int boundary)
+    {
+        for (int i = offset; i < boundary; i++) {
+            char chr = input.charAt(i);
+            if (chr == '-' || isLetter(chr)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks for leading zeroes in the numeric identifiers.
+     *
+     * @return {@code false} if a numeric identifier has leading zero(es)
+     */
+    private boolean checkForLeadingZeroes()
+    {
+        if (lookahead(1) == '0' && isDigit(lookahead(2))) {
+            return fail(ParseResult.Error.LEADING_ZERO, offset);
+        }
+        return true;
+    }
+
+    /**
+     * Checks for empty identifiers in the pre-release version or build metadata.
+     *
+     * @return {@code false} if the pre-release version or build metadata have empty identifier(s)
+     */
+    private boolean checkForEmptyIdentifier()
+    {
+        int la = lookahead(1);
+        if (la == '.' || la == '+' || la == END) {
+            return fail(ParseResult.Error.EMPTY_IDENTIFIER, offset, DIGIT, LETTER, HYPHEN);
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the next character can start an identifier.
+     *
+     * @return {@code false} if the next character is not a digit, a letter or a hyphen
+     */
+    private boolean ensureIdentifierLookahead()
+    {
+        if (!isIdentifierChar(lookahead(1))) {
+            return fail(ParseResult.Error.UNEXPECTED_CHARACTER, offset, DIGIT, LETTER, HYPHEN);
+        }
+        return true;
+    }
+
+    /**
+     * Consumes the next character which is expected to be a dot.
+     *
+     * @return {@code false} if the next character is not a dot
+     */
+    private boolean consumeDot()
+    {
+        if (lookahead(1) != '.') {
+            return fail(ParseResult.Error.UNEXPECTED_CHARACTER, offset, DOT);
+        }
+        offset++;
+        return true;
+    }
+
+    /**
+     * Checks that the whole input has been consumed.
+     *
+     * @return {@code false} if there are characters left
+     */
+    private boolean consumeEnd()
+    {
+        if (lookahead(1) != END) {
+            return fail(ParseResult.Error.UNEXPECTED_CHARACTER, offset, EOI);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the character at the specified position without consuming it.
+     *
+     * @param position the position of the character, {@code 1} being the next one
+     * @return the character at the specified position or {@link #END} if no more characters left
+     */
+    private int lookahead(int position)
+    {
+        int idx = offset + position - 1;
+        if (idx < input.length()) {
+            return input.charAt(idx);
+        }
+        return END;
+    }
+
+    /**
+     * Records a failure at the specified offset.
+     *
+     * @param reason the reason of the failure
+     * @param at the offset of the failure
+     * @param expectedTypes the expected types of the character at the offset
+     * @return always {@code false}
+     */
+    private boolean fail(ParseResult.Error reason, int at, CharType... expectedTypes)
+    {
+        error = reason;
+        errorOffset = at;
+        expected = expectedTypes;
+        return false;
+    }
+
+    /**
+     * Records a failure at the current offset.
+     *
+     * @param <T> the type of the non-terminal which could not be parsed
+     * @param reason the reason of the failure
+     * @param expectedTypes the expected types of the next character
+     * @return always {@code null}
+     */
+    private <T> T reject(ParseResult.Error reason, CharType... expectedTypes)
+    {
+        fail(reason, offset, expectedTypes);
+        return null;
+    }
+
+    /**
+     * Returns the parsed value or throws the exception describing the recorded failure.
+     *
+     * @param <T> the type of the parsed value
+     * @param value the parsed value or {@code null} if parsing failed
+     * @return the parsed value
+     * @throws ParseException when there is a grammar error
+     * @throws UnexpectedCharacterException when encounters an unexpected character type
+     * @throws NumberFormatException if a version number does not fit into an {@code int}
+     */
+    private <T> T orThrow(T value)
+    {
+        if (value != null) {
+            return value;
+        }
+        switch (error) {
+            case LEADING_ZERO:
+                throw new ParseException("Numeric identifier MUST NOT contain leading zeroes");
+            case EMPTY_IDENTIFIER:
+                throw new ParseException("Identifiers MUST NOT be empty", unexpectedCharacter());
+            case NUMBER_OVERFLOW:
+                throw new NumberFormatException("For input string: \"" + input.substring(errorOffset, errorEnd) + "\"");
+            default:
+                throw unexpectedCharacter();
+        }
+    }
+
+    /**
+     * Creates an exception for the character at which the recorded failure occurred.
+     *
+     * @return the exception describing the unexpected character
+     */
+    private UnexpectedCharacterException unexpectedCharacter()
+    {
+        Character chr = errorOffset < input.length() ? Character.valueOf(input.charAt(errorOffset)) : null;
+        return new UnexpectedCharacterException(chr, errorOffset, expected);
+    }
+
+    /**
+     * Checks if the specified character is a digit.
+     *
+     * @param chr the character to check
+     * @return {@code true} if the character matches {@code CharType.DIGIT}
+     */
+    private static boolean isDigit(int chr)
+    {
+        return chr >= '0' && chr <= '9';
+    }
+
+    /**
+     * Checks if the specified character is a letter.
+     *
+     * @param chr the character to check
+     * @return {@code true} if the character matches {@code CharType.LETTER}
+     */
+    private static boolean isLetter(int chr)
+    {
+        return (chr >= 'a' && chr <= 'z') || (chr >= 'A' && chr <= 'Z');
+    }
+
+    /**
+     * Checks if the specified character may be part of an identifier.
+     *
+     * @param chr the character to check
+     * @return {@code true} if the character is a digit, a letter or a hyphen
+     */
+    private static boolean isIdentifierChar(int chr)
+    {
+        return isDigit(chr) || isLetter(chr) || chr == '-';
+    }
+}
@@ -25,12 +25,14 @@
 
 package dev.galacticraft.gradle.commons.version;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import dev.galacticraft.gradle.commons.version.list.BulkVersionParser;
 import dev.galacticraft.gradle.commons.version.list.VersionSet;
 
 public final class Versions
@@ -53,7 +55,24 @@ public final class Versions
 
     public static VersionSet of(List<String> versionsList)
     {
-        return new VersionSet(versionsList.stream().map(toVersion).collect(Collectors.toList()));
+        Function<String, Version> parser = toVersion;
+        if (parser != PARSE) {
+            return new VersionSet(versionsList.stream().map(parser).collect(Collectors.toList()));
+        }
+        List<Version> versions = new ArrayList<Version>(versionsList.size());
+        for (String version : versionsList) {
+            // strings which are no valid versions are skipped without creating an exception
+            ParseResult<Version> result = tryToVersion.apply(version);
+            if (result.isSuccess()) {
+                versions.add(result.getValue());
+            }
+        }
+        return new VersionSet(versions);
+    }
+
+    public static BulkVersionParser.Result parseAll(List<String> versionsList)
+    {
+        return BulkVersionParser.parse(versionsList);
     }
 
     public static VersionSet set(TreeSet<Version> set)
@@ -61,5 +80,34 @@ public final class Versions
         return new VersionSet(set);
     }
 
-    public static Function<String, Version> toVersion = Version::of;
+    /**
+     * Makes the default {@link #toVersion} and {@link #tryToVersion} hand out the canonical instances of the
+     * {@link VersionInterner#shared() shared interner}. The switch is seen by all threads, and customized parsers
+     * are left alone.
+     */
+    public static void useInterning(boolean intern)
+    {
+        interning = intern;
+    }
+
+    private static Version parse(String version)
+    {
+        return interning ? VersionInterner.shared().intern(version) : Version.of(version);
+    }
+
+    private static ParseResult<Version> tryParse(String version)
+    {
+        return interning ? VersionInterner.shared().tryIntern(version) : Version.tryParse(version);
+    }
+
+    private static volatile boolean interning;
+
+    private static final Function<String, Version> PARSE = Versions::parse;
+
+    /**
+     * The parser of {@link #of(List)}, which skips invalid strings only while this is left at its default.
+     */
+    public static Function<String, Version> toVersion = PARSE;
+
+    public static Function<String, ParseResult<Version>> tryToVersion = Versions::tryParse;
 }
@@ -271,4 +271,35 @@ public class CompositeExpression implements Expression {
     public boolean interpret(Version version) {
         return exprTree.interpret(version);
     }
+
+    /**
+     * Compiles the expression into a range of versions which can be
+     * interpreted without walking the expression tree.
+     *
+     * @return the compiled {@code VersionRange}
+     * @see VersionRange#compile(Expression)
+     */
+    public VersionRange compile() {
+        return VersionRange.compile(exprTree);
+    }
+
+    /**
+     * Flattens the expression into a program over primitive arrays which
+     * keeps the structure of the expression tree.
+     *
+     * @return the flattened {@code FlatExpression}
+     * @see FlatExpression#compile(Expression)
+     */
+    public FlatExpression flatten() {
+        return FlatExpression.compile(exprTree);
+    }
+
+    /**
+     * Returns the underlying expression tree.
+     *
+     * @return the underlying expression tree
+     */
+    Expression getExpressionTree() {
+        return exprTree;
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version.expr;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.galacticraft.gradle.commons.version.ParseException;
+import dev.galacticraft.gradle.commons.version.Parser;
+import dev.galacticraft.gradle.commons.version.expr.ExpressionParser.UnexpectedTokenException;
+
+/**
+ * A size-bounded cache of compiled SemVer Expressions keyed by their text.
+ *
+ * Every expression is parsed once and compiled into an immutable
+ * {@link VersionRange}, which can safely be shared between threads.
+ * When the cache is full the least recently used entry is evicted.
+ * Expressions that fail to parse are never cached.
+ */
+public final class ExpressionCache implements Parser<Expression>
+{
+
+	/**
+	 * The capacity of the shared cache.
+	 */
+	public static final int						DEFAULT_CAPACITY	= 256;
+
+	/**
+	 * The cache used by {@code Version.satisfies(String)}.
+	 */
+	private static final ExpressionCache		SHARED				= new ExpressionCache(DEFAULT_CAPACITY);
+
+	/**
+	 * The compiled expressions in access order, guarded by itself.
+	 */
+	private final Map<String, VersionRange>		entries;
+
+	/**
+	 * The number of lookups answered from the cache.
+	 */
+	private final AtomicLong					hits				= new AtomicLong();
+
+	/**
+	 * The number of lookups which had to parse the expression.
+	 */
+	private final AtomicLong					misses				= new AtomicLong();
+
+	/**
+	 * Constructs an empty {@code ExpressionCache}.
+	 *
+	 * @param capacity
+	 *            the maximum number of cached expressions
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the capacity is not positive
+	 */
+	public ExpressionCache(final int capacity)
+	{
+		if (capacity <= 0)
+		{
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		this.entries = new LinkedHashMap<String, VersionRange>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, VersionRange> eldest)
+			{
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cache shared by the whole class loader.
+	 *
+	 * @return the shared {@code ExpressionCache}
+	 */
+	public static ExpressionCache shared()
+	{
+		return SHARED;
+	}
+
+	/**
+	 * Returns the compiled SemVer Expression, parsing
+	 * and compiling it only if it is not cached yet.
+	 *
+	 * @param input
+	 *            a string representing the SemVer Expression
+	 * 
+	 * @return the compiled expression
+	 * 
+	 * @throws ParseException
+	 *             in case of a general parse error
+	 * @throws LexerException
+	 *             when encounters an illegal character
+	 * @throws UnexpectedTokenException
+	 *             when comes across an unexpected token
+	 */
+	@Override
+	public Expression parse(String input)
+	{
+		VersionRange range;
+		synchronized (entries)
+		{
+			range = entries.get(input);
+		}
+		if (range != null)
+		{
+			hits.incrementAndGet();
+			return range;
+		}
+		misses.incrementAndGet();
+		range = VersionRange.parse(input);
+		synchronized (entries)
+		{
+			entries.put(input, range);
+		}
+		return range;
+	}
+
+	/**
+	 * Returns the number of lookups answered from the cache.
+	 *
+	 * @return the hit count
+	 */
+	public long getHitCount()
+	{
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of lookups which had to parse the expression.
+	 *
+	 * @return the miss count
+	 */
+	public long getMissCount()
+	{
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of cached expressions.
+	 *
+	 * @return the size of the cache
+	 */
+	public int size()
+	{
+		synchronized (entries)
+		{
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Removes all cached expressions and resets the counters.
+	 */
+	public void clear()
+	{
+		synchronized (entries)
+		{
+			entries.clear();
+		}
+		hits.set(0);
+		misses.set(0);
+	}
+}
@@ -27,7 +27,6 @@ package dev.galacticraft.gradle.commons.version.expr;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
 
 import dev.galacticraft.gradle.commons.version.ElementStream;
 import dev.galacticraft.gradle.commons.version.Version;
@@ -65,6 +64,26 @@ public class Expressions
 			this.right = right;
 		}
 
+		/**
+		 * Returns the left-hand operand of this expression.
+		 *
+		 * @return the left-hand operand
+		 */
+		Expression getLeft()
+		{
+			return left;
+		}
+
+		/**
+		 * Returns the right-hand operand of this expression.
+		 *
+		 * @return the right-hand operand
+		 */
+		Expression getRight()
+		{
+			return right;
+		}
+
 		/**
 		 * Checks if both operands evaluate to {@code true}.
 		 *
@@ -103,6 +122,16 @@ public class Expressions
 			this.parsedVersion = parsedVersion;
 		}
 
+		/**
+		 * Returns the parsed version, the right-hand operand of the operator.
+		 *
+		 * @return the parsed version
+		 */
+		Version getParsedVersion()
+		{
+			return parsedVersion;
+		}
+
 		/**
 		 * Checks if the current version equals the parsed version.
 		 *
@@ -143,6 +172,16 @@ public class Expressions
 			this.parsedVersion = parsedVersion;
 		}
 
+		/**
+		 * Returns the parsed version, the right-hand operand of the operator.
+		 *
+		 * @return the parsed version
+		 */
+		Version getParsedVersion()
+		{
+			return parsedVersion;
+		}
+
 		/**
 		 * Checks if the current version is greater than the parsed version.
 		 *
@@ -183,6 +222,16 @@ public class Expressions
 			this.parsedVersion = parsedVersion;
 		}
 
+		/**
+		 * Returns the parsed version, the right-hand operand of the operator.
+		 *
+		 * @return the parsed version
+		 */
+		Version getParsedVersion()
+		{
+			return parsedVersion;
+		}
+
 		/**
 		 * Checks if the current version is greater
 		 * than or equal to the parsed version.
@@ -224,6 +273,16 @@ public class Expressions
 			this.parsedVersion = parsedVersion;
 		}
 
+		/**
+		 * Returns the parsed version, the right-hand operand of the operator.
+		 *
+		 * @return the parsed version
+		 */
+		Version getParsedVersion()
+		{
+			return parsedVersion;
+		}
+
 		/**
 		 * Checks if the current version is less than the parsed version.
 		 *
@@ -264,6 +323,16 @@ public class Expressions
 			this.parsedVersion = parsedVersion;
 		}
 
+		/**
+		 * Returns the parsed version, the right-hand operand of the operator.
+		 *
+		 * @return the parsed version
+		 */
+		Version getParsedVersion()
+		{
+			return parsedVersion;
+		}
+
 		/**
 		 * Checks if the current version is less
 		 * than or equal to the parsed version.
@@ -284,6 +353,12 @@ public class Expressions
 
 	/**
 	 * A lexer for the SemVer Expressions.
+	 *
+	 * The input is scanned once from left to right with a cursor. Each
+	 * token is recognized by its first character, so the produced tokens
+	 * are the same as if the patterns of {@link Token.Type} were tried in
+	 * their declaration order, without creating a new string for the
+	 * remaining input after every token.
 	 */
 	static class Lexer
 	{
@@ -308,34 +383,141 @@ public class Expressions
 		 */
 		ElementStream<Token> tokenize(String input)
 		{
-			List<Token>	tokens		= new ArrayList<Token>();
-			int			tokenPos	= 0;
-			while (!input.isEmpty())
+			List<Token>	tokens	= new ArrayList<Token>();
+			int			length	= input.length();
+			int			pos		= 0;
+			while (pos < length)
 			{
-				boolean matched = false;
-				for (Token.Type tokenType : Token.Type.values())
+				char	chr		= input.charAt(pos);
+				char	next	= pos + 1 < length ? input.charAt(pos + 1) : 0;
+				switch (chr)
 				{
-					Matcher matcher = tokenType.pattern.matcher(input);
-					if (matcher.find())
+				case '0':
+					tokens.add(new Token(Token.Type.NUMERIC, "0", pos));
+					pos++;
+					break;
+				case '1':
+				case '2':
+				case '3':
+				case '4':
+				case '5':
+				case '6':
+				case '7':
+				case '8':
+				case '9':
+					int start = pos;
+					do
+					{
+						pos++;
+					} while (pos < length && isDigit(input.charAt(pos)));
+					tokens.add(new Token(Token.Type.NUMERIC, input.substring(start, pos), start));
+					break;
+				case '.':
+					pos = add(tokens, Token.Type.DOT, ".", pos);
+					break;
+				case '-':
+					pos = add(tokens, Token.Type.HYPHEN, "-", pos);
+					break;
+				case '=':
+					pos = add(tokens, Token.Type.EQUAL, "=", pos);
+					break;
+				case '!':
+					pos = next == '=' ? add(tokens, Token.Type.NOT_EQUAL, "!=", pos) : add(tokens, Token.Type.NOT, "!", pos);
+					break;
+				case '>':
+					pos = next == '=' ? add(tokens, Token.Type.GREATER_EQUAL, ">=", pos) : add(tokens, Token.Type.GREATER, ">", pos);
+					break;
+				case '<':
+					pos = next == '=' ? add(tokens, Token.Type.LESS_EQUAL, "<=", pos) : add(tokens, Token.Type.LESS, "<", pos);
+					break;
+				case '~':
+					pos = add(tokens, Token.Type.TILDE, "~", pos);
+					break;
+				case '*':
+					pos = add(tokens, Token.Type.WILDCARD, "*", pos);
+					break;
+				case 'x':
+					pos = add(tokens, Token.Type.WILDCARD, "x", pos);
+					break;
+				case 'X':
+					pos = add(tokens, Token.Type.WILDCARD, "X", pos);
+					break;
+				case '^':
+					pos = add(tokens, Token.Type.CARET, "^", pos);
+					break;
+				case '&':
+					pos = add(tokens, Token.Type.AND, "&", pos);
+					break;
+				case '|':
+					pos = add(tokens, Token.Type.OR, "|", pos);
+					break;
+				case '(':
+					pos = add(tokens, Token.Type.LEFT_PAREN, "(", pos);
+					break;
+				case ')':
+					pos = add(tokens, Token.Type.RIGHT_PAREN, ")", pos);
+					break;
+				default:
+					if (!isWhitespace(chr))
 					{
-						matched = true;
-						input = matcher.replaceFirst("");
-						if (tokenType != Token.Type.WHITESPACE)
-						{
-							tokens.add(new Token(tokenType, matcher.group(), tokenPos));
-						}
-						tokenPos += matcher.end();
-						break;
+						throw new LexerException(input.substring(pos));
 					}
-				}
-				if (!matched)
-				{
-					throw new LexerException(input);
+					do
+					{
+						pos++;
+					} while (pos < length && isWhitespace(input.charAt(pos)));
 				}
 			}
-			tokens.add(new Token(Token.Type.EOI, null, tokenPos));
+			tokens.add(new Token(Token.Type.EOI, null, pos));
 			return new ElementStream<Token>(tokens.toArray(new Token[tokens.size()]));
 		}
+
+		/**
+		 * Adds a token with a constant lexeme.
+		 *
+		 * @param tokens
+		 *            the tokens produced so far
+		 * @param type
+		 *            the type of the token
+		 * @param lexeme
+		 *            the lexeme of the token
+		 * @param pos
+		 *            the position of the token
+		 * 
+		 * @return the position right after the token
+		 */
+		private static int add(List<Token> tokens, Token.Type type, String lexeme, int pos)
+		{
+			tokens.add(new Token(type, lexeme, pos));
+			return pos + lexeme.length();
+		}
+
+		/**
+		 * Checks if the specified character is a digit.
+		 *
+		 * @param chr
+		 *            the character to check
+		 * 
+		 * @return {@code true} if the character is a digit
+		 */
+		private static boolean isDigit(char chr)
+		{
+			return chr >= '0' && chr <= '9';
+		}
+
+		/**
+		 * Checks if the specified character matches the {@code \s}
+		 * pattern of {@link Token.Type#WHITESPACE}.
+		 *
+		 * @param chr
+		 *            the character to check
+		 * 
+		 * @return {@code true} if the character is a whitespace
+		 */
+		private static boolean isWhitespace(char chr)
+		{
+			return chr == ' ' || chr == '\t' || chr == '\n' || chr == '\u000B' || chr == '\f' || chr == '\r';
+		}
 	}
 
 	/**
@@ -360,6 +542,16 @@ public class Expressions
 			this.expr = expr;
 		}
 
+		/**
+		 * Returns the expression to negate.
+		 *
+		 * @return the negated expression
+		 */
+		Expression getExpression()
+		{
+			return expr;
+		}
+
 		/**
 		 * Negates the given expression.
 		 *
@@ -398,6 +590,16 @@ public class Expressions
 			this.parsedVersion = parsedVersion;
 		}
 
+		/**
+		 * Returns the parsed version, the right-hand operand of the operator.
+		 *
+		 * @return the parsed version
+		 */
+		Version getParsedVersion()
+		{
+			return parsedVersion;
+		}
+
 		/**
 		 * Checks if the current version does not equal the parsed version.
 		 *
@@ -446,6 +648,26 @@ public class Expressions
 			this.right = right;
 		}
 
+		/**
+		 * Returns the left-hand operand of this expression.
+		 *
+		 * @return the left-hand operand
+		 */
+		Expression getLeft()
+		{
+			return left;
+		}
+
+		/**
+		 * Returns the right-hand operand of this expression.
+		 *
+		 * @return the right-hand operand
+		 */
+		Expression getRight()
+		{
+			return right;
+		}
+
 		/**
 		 * Checks if one of the operands evaluates to {@code true}.
 		 *
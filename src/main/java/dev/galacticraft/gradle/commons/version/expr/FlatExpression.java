@@ -0,0 +1,452 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version.expr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import dev.galacticraft.gradle.commons.version.Version;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.And;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.Equal;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.Greater;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.GreaterOrEqual;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.Less;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.LessOrEqual;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.Not;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.NotEqual;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.Or;
+
+/**
+ * A SemVer Expression flattened into a branching program over primitive
+ * arrays.
+ *
+ * Every comparison of the expression tree becomes an instruction holding an
+ * opcode, the bound as packed sort key (see {@link Version#getSortKey()})
+ * and the instructions to continue with if the comparison holds or not.
+ * {@code And}, {@code Or} and {@code Not} nodes leave no instructions, they
+ * only decide where the branches lead, so interpreting the expression is a
+ * single loop which compares {@code long} keys and short-circuits like the
+ * tree does. Only versions or bounds which cannot be packed, and pre-release
+ * versions equal to a pre-release bound in their key, fall back to
+ * {@link Version#compareTo(Version)}.
+ *
+ * Unlike a {@link VersionRange} the expression is not normalized, so
+ * flattening is cheap and keeps the structure of the expression.
+ * This class is immutable and hence thread-safe.
+ */
+public final class FlatExpression implements Expression
+{
+
+	/**
+	 * Tests whether the version equals the bound.
+	 */
+	private static final byte		EQUAL				= 0;
+
+	/**
+	 * Tests whether the version does not equal the bound.
+	 */
+	private static final byte		NOT_EQUAL			= 1;
+
+	/**
+	 * Tests whether the version is greater than the bound.
+	 */
+	private static final byte		GREATER				= 2;
+
+	/**
+	 * Tests whether the version is greater than or equal to the bound.
+	 */
+	private static final byte		GREATER_OR_EQUAL	= 3;
+
+	/**
+	 * Tests whether the version is less than the bound.
+	 */
+	private static final byte		LESS				= 4;
+
+	/**
+	 * Tests whether the version is less than or equal to the bound.
+	 */
+	private static final byte		LESS_OR_EQUAL		= 5;
+
+	/**
+	 * Interprets an expression of another type.
+	 */
+	private static final byte		OTHER				= 6;
+
+	/**
+	 * The operators of the comparison opcodes, indexed by opcode.
+	 */
+	private static final String[]	OPERATORS			= { "=", "!=", ">", ">=", "<", "<=" };
+
+	/**
+	 * The branch target ending the program with {@code true}.
+	 */
+	private static final int		TRUE				= -1;
+
+	/**
+	 * The branch target ending the program with {@code false}.
+	 */
+	private static final int		FALSE				= -2;
+
+	/**
+	 * The key of versions which cannot be packed.
+	 */
+	private static final long		NO_KEY				= -1L;
+
+	/**
+	 * The index of the first instruction to run.
+	 */
+	private final int				entry;
+
+	/**
+	 * The opcodes of the instructions.
+	 */
+	private final byte[]			opcodes;
+
+	/**
+	 * The packed keys of the bounds.
+	 */
+	private final long[]			keys;
+
+	/**
+	 * The instructions to continue with if the test holds.
+	 */
+	private final int[]				onTrue;
+
+	/**
+	 * The instructions to continue with if the test fails.
+	 */
+	private final int[]				onFalse;
+
+	/**
+	 * The bounds for the full comparison.
+	 */
+	private final Version[]			bounds;
+
+	/**
+	 * The expressions of other types, {@code null} for comparisons.
+	 */
+	private final Expression[]		others;
+
+	/**
+	 * Constructs a {@code FlatExpression} from the compiled program.
+	 *
+	 * @param compiler
+	 *            the compiler holding the program
+	 * @param entry
+	 *            the index of the first instruction
+	 */
+	private FlatExpression(Compiler compiler, int entry)
+	{
+		int length = compiler.length;
+		this.entry = entry;
+		this.opcodes = Arrays.copyOf(compiler.opcodes, length);
+		this.onTrue = Arrays.copyOf(compiler.onTrue, length);
+		this.onFalse = Arrays.copyOf(compiler.onFalse, length);
+		this.bounds = compiler.bounds.toArray(new Version[length]);
+		this.others = compiler.others.toArray(new Expression[length]);
+		this.keys = new long[length];
+		for (int i = 0; i < length; i++)
+		{
+			keys[i] = bounds[i] == null ? NO_KEY : bounds[i].getSortKey();
+		}
+	}
+
+	/**
+	 * Flattens the expression. Comparisons, {@code And}, {@code Or} and
+	 * {@code Not} nodes are flattened, any other expression is kept as an
+	 * instruction which interprets it as it is.
+	 *
+	 * @param expr
+	 *            the expression to flatten
+	 * 
+	 * @return the flattened expression
+	 */
+	public static FlatExpression compile(Expression expr)
+	{
+		if (expr instanceof FlatExpression)
+		{
+			return (FlatExpression) expr;
+		}
+		Compiler compiler = new Compiler();
+		int entry = compiler.emit(expr, TRUE, FALSE);
+		return new FlatExpression(compiler, entry);
+	}
+
+	/**
+	 * Parses the SemVer Expression and flattens it.
+	 *
+	 * @param expr
+	 *            a string representing the SemVer Expression
+	 * 
+	 * @return the flattened expression
+	 * 
+	 * @see ExpressionParser#parse(String)
+	 */
+	public static FlatExpression parse(String expr)
+	{
+		return compile(ExpressionParser.newInstance().parse(expr));
+	}
+
+	/**
+	 * Runs the program against the version.
+	 *
+	 * @param version
+	 *            the version to interpret against
+	 * 
+	 * @return {@code true} if the version satisfies the expression
+	 *         or {@code false} otherwise
+	 */
+	@Override
+	public boolean interpret(Version version)
+	{
+		long	key	= version.getSortKey();
+		int		pc	= entry;
+		while (pc >= 0)
+		{
+			boolean result;
+			byte opcode = opcodes[pc];
+			if (opcode == OTHER)
+			{
+				result = others[pc].interpret(version);
+			} else
+			{
+				long	bound		= keys[pc];
+				int		comparison;
+				if (key != NO_KEY && bound != NO_KEY && (key != bound || (bound & 1L) != 0))
+				{
+					comparison = Long.compare(key, bound);
+				} else
+				{
+					comparison = version.compareTo(bounds[pc]);
+				}
+				switch (opcode)
+				{
+				case EQUAL:
+					result = comparison == 0;
+					break;
+				case NOT_EQUAL:
+					result = comparison != 0;
+					break;
+				case GREATER:
+					result = comparison > 0;
+					break;
+				case GREATER_OR_EQUAL:
+					result = comparison >= 0;
+					break;
+				case LESS:
+					result = comparison < 0;
+					break;
+				default:
+					result = comparison <= 0;
+				}
+			}
+			pc = result ? onTrue[pc] : onFalse[pc];
+		}
+		return pc == TRUE;
+	}
+
+	/**
+	 * Returns the versions which satisfy this expression, in iteration order.
+	 *
+	 * @param versions
+	 *            the versions to interpret against
+	 * 
+	 * @return the list of versions satisfying this expression
+	 */
+	public List<Version> filter(Collection<? extends Version> versions)
+	{
+		List<Version> result = new ArrayList<Version>();
+		for (Version version : versions)
+		{
+			if (interpret(version))
+			{
+				result.add(version);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the program in a readable form, one instruction per line with
+	 * the instructions to continue with if the test holds or fails.
+	 *
+	 * @return the string representation of this expression
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder("entry ").append(entry);
+		for (int pc = 0; pc < opcodes.length; pc++)
+		{
+			sb.append('\n').append(pc).append(": ");
+			if (opcodes[pc] == OTHER)
+			{
+				sb.append('{').append(others[pc]).append('}');
+			} else
+			{
+				sb.append(OPERATORS[opcodes[pc]]).append(bounds[pc]);
+			}
+			sb.append(" ? ").append(target(onTrue[pc])).append(" : ").append(target(onFalse[pc]));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the readable form of a branch target.
+	 *
+	 * @param target
+	 *            the branch target
+	 * 
+	 * @return the index of the instruction or the result of the program
+	 */
+	private static String target(int target)
+	{
+		return target == TRUE ? "true" : target == FALSE ? "false" : String.valueOf(target);
+	}
+
+	/**
+	 * Flattens an expression tree into a branching program.
+	 */
+	private static final class Compiler
+	{
+
+		/**
+		 * The opcodes emitted so far.
+		 */
+		private byte[]					opcodes	= new byte[16];
+
+		/**
+		 * The instructions to continue with if the test holds.
+		 */
+		private int[]					onTrue	= new int[16];
+
+		/**
+		 * The instructions to continue with if the test fails.
+		 */
+		private int[]					onFalse	= new int[16];
+
+		/**
+		 * The number of instructions emitted so far.
+		 */
+		private int						length;
+
+		/**
+		 * The bounds of the comparisons, {@code null} for other expressions.
+		 */
+		private final List<Version>		bounds	= new ArrayList<Version>();
+
+		/**
+		 * The other expressions, {@code null} for comparisons.
+		 */
+		private final List<Expression>	others	= new ArrayList<Expression>();
+
+		/**
+		 * Emits the instructions of the expression. The right operand of a
+		 * binary operator is emitted first, so that the left one knows where
+		 * to continue.
+		 *
+		 * @param expr
+		 *            the expression to emit
+		 * @param whenTrue
+		 *            where to continue if the expression holds
+		 * @param whenFalse
+		 *            where to continue if the expression fails
+		 * 
+		 * @return the index of the first instruction of the expression
+		 */
+		int emit(Expression expr, int whenTrue, int whenFalse)
+		{
+			if (expr instanceof CompositeExpression)
+			{
+				return emit(((CompositeExpression) expr).getExpressionTree(), whenTrue, whenFalse);
+			} else if (expr instanceof And)
+			{
+				And and = (And) expr;
+				return emit(and.getLeft(), emit(and.getRight(), whenTrue, whenFalse), whenFalse);
+			} else if (expr instanceof Or)
+			{
+				Or or = (Or) expr;
+				return emit(or.getLeft(), whenTrue, emit(or.getRight(), whenTrue, whenFalse));
+			} else if (expr instanceof Not)
+			{
+				return emit(((Not) expr).getExpression(), whenFalse, whenTrue);
+			} else if (expr instanceof Equal)
+			{
+				return add(EQUAL, ((Equal) expr).getParsedVersion(), null, whenTrue, whenFalse);
+			} else if (expr instanceof NotEqual)
+			{
+				return add(NOT_EQUAL, ((NotEqual) expr).getParsedVersion(), null, whenTrue, whenFalse);
+			} else if (expr instanceof Greater)
+			{
+				return add(GREATER, ((Greater) expr).getParsedVersion(), null, whenTrue, whenFalse);
+			} else if (expr instanceof GreaterOrEqual)
+			{
+				return add(GREATER_OR_EQUAL, ((GreaterOrEqual) expr).getParsedVersion(), null, whenTrue, whenFalse);
+			} else if (expr instanceof Less)
+			{
+				return add(LESS, ((Less) expr).getParsedVersion(), null, whenTrue, whenFalse);
+			} else if (expr instanceof LessOrEqual)
+			{
+				return add(LESS_OR_EQUAL, ((LessOrEqual) expr).getParsedVersion(), null, whenTrue, whenFalse);
+			}
+			return add(OTHER, null, expr, whenTrue, whenFalse);
+		}
+
+		/**
+		 * Appends an instruction to the program.
+		 *
+		 * @param opcode
+		 *            the opcode of the instruction
+		 * @param bound
+		 *            the bound of a comparison
+		 * @param other
+		 *            the expression of another type
+		 * @param whenTrue
+		 *            where to continue if the test holds
+		 * @param whenFalse
+		 *            where to continue if the test fails
+		 * 
+		 * @return the index of the instruction
+		 */
+		private int add(byte opcode, Version bound, Expression other, int whenTrue, int whenFalse)
+		{
+			if (length == opcodes.length)
+			{
+				opcodes = Arrays.copyOf(opcodes, length * 2);
+				onTrue = Arrays.copyOf(onTrue, length * 2);
+				onFalse = Arrays.copyOf(onFalse, length * 2);
+			}
+			opcodes[length] = opcode;
+			onTrue[length] = whenTrue;
+			onFalse[length] = whenFalse;
+			bounds.add(bound);
+			others.add(other);
+			return length++;
+		}
+	}
+}
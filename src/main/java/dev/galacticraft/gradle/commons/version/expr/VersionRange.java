@@ -0,0 +1,841 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version.expr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+
+import dev.galacticraft.gradle.commons.version.ParseException;
+import dev.galacticraft.gradle.commons.version.Version;
+import dev.galacticraft.gradle.commons.version.expr.ExpressionParser.UnexpectedTokenException;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.And;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.Equal;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.Greater;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.GreaterOrEqual;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.Less;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.LessOrEqual;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.Not;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.NotEqual;
+import dev.galacticraft.gradle.commons.version.expr.Expressions.Or;
+
+/**
+ * A SemVer Expression compiled into a sorted set of
+ * non-overlapping version intervals.
+ *
+ * Interpreting a {@code VersionRange} is a binary search over its
+ * intervals instead of a walk through the expression tree, and the
+ * versions of a sorted set that satisfy it can be taken as a few
+ * {@code subSet} views instead of testing every element.
+ *
+ * Versions are ordered by {@link Version#compareTo(Version)}, the same
+ * order the comparison expressions use, so build metadata is ignored.
+ * This class is immutable and hence thread-safe.
+ */
+public final class VersionRange implements Expression
+{
+
+	/**
+	 * A single interval of versions. A {@code null} bound is unbounded.
+	 */
+	static final class Interval
+	{
+
+		/**
+		 * The lower bound or {@code null} if there is none.
+		 */
+		final Version	lower;
+
+		/**
+		 * Whether the lower bound is part of the interval.
+		 */
+		final boolean	lowerInclusive;
+
+		/**
+		 * The upper bound or {@code null} if there is none.
+		 */
+		final Version	upper;
+
+		/**
+		 * Whether the upper bound is part of the interval.
+		 */
+		final boolean	upperInclusive;
+
+		/**
+		 * Constructs an {@code Interval} with its bounds.
+		 *
+		 * @param lower
+		 *            the lower bound or {@code null}
+		 * @param lowerInclusive
+		 *            whether the lower bound is included
+		 * @param upper
+		 *            the upper bound or {@code null}
+		 * @param upperInclusive
+		 *            whether the upper bound is included
+		 */
+		Interval(Version lower, boolean lowerInclusive, Version upper, boolean upperInclusive)
+		{
+			this.lower = lower;
+			this.lowerInclusive = lower != null && lowerInclusive;
+			this.upper = upper;
+			this.upperInclusive = upper != null && upperInclusive;
+		}
+
+		/**
+		 * Checks if the version lies above the lower bound.
+		 *
+		 * @param version
+		 *            the version to check
+		 * 
+		 * @return {@code true} if the lower bound admits the version
+		 */
+		boolean admitsFromBelow(Version version)
+		{
+			return lower == null || isAbove(version, lower, lowerInclusive);
+		}
+
+		/**
+		 * Checks if the version lies below the upper bound.
+		 *
+		 * @param version
+		 *            the version to check
+		 * 
+		 * @return {@code true} if the upper bound admits the version
+		 */
+		boolean admitsFromAbove(Version version)
+		{
+			return upper == null || isBelow(version, upper, upperInclusive);
+		}
+
+		/**
+		 * Checks if the version lies in this interval.
+		 *
+		 * @param version
+		 *            the version to check
+		 * 
+		 * @return {@code true} if the interval contains the version
+		 */
+		boolean contains(Version version)
+		{
+			return admitsFromBelow(version) && admitsFromAbove(version);
+		}
+
+		/**
+		 * Checks if this interval contains no version at all.
+		 *
+		 * @return {@code true} if the lower bound lies above the upper bound
+		 */
+		boolean isEmpty()
+		{
+			if (lower == null || upper == null)
+			{
+				return false;
+			}
+			int result = lower.compareTo(upper);
+			return result > 0 || (result == 0 && !(lowerInclusive && upperInclusive));
+		}
+
+		/**
+		 * Checks if this interval has the same bounds as the other object.
+		 *
+		 * @param other
+		 *            the object to compare with
+		 * 
+		 * @return {@code true} if the other object is an equal interval
+		 */
+		@Override
+		public boolean equals(Object other)
+		{
+			if (this == other)
+			{
+				return true;
+			}
+			if (!(other instanceof Interval))
+			{
+				return false;
+			}
+			Interval interval = (Interval) other;
+			return lowerInclusive == interval.lowerInclusive && upperInclusive == interval.upperInclusive
+				&& Objects.equals(lower, interval.lower) && Objects.equals(upper, interval.upper);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(lower, lowerInclusive, upper, upperInclusive);
+		}
+
+		/**
+		 * Returns the string representation of this interval
+		 * in the usual mathematical notation.
+		 *
+		 * @return the string representation of this interval
+		 */
+		@Override
+		public String toString()
+		{
+			return (lowerInclusive ? "[" : "(") + (lower == null ? "-inf" : lower) + ", "
+				+ (upper == null ? "+inf" : upper) + (upperInclusive ? "]" : ")");
+		}
+	}
+
+	/**
+	 * The range no version satisfies.
+	 */
+	static final VersionRange	EMPTY	= new VersionRange(new Interval[0]);
+
+	/**
+	 * The range every version satisfies.
+	 */
+	static final VersionRange	ALL		= new VersionRange(new Interval[] { new Interval(null, false, null, false) });
+
+	/**
+	 * The sorted, non-overlapping and non-adjacent intervals of this range.
+	 */
+	private final Interval[]	intervals;
+
+	/**
+	 * Constructs a {@code VersionRange} with already normalized intervals.
+	 *
+	 * @param intervals
+	 *            the sorted, non-overlapping intervals
+	 */
+	private VersionRange(Interval[] intervals)
+	{
+		this.intervals = intervals;
+	}
+
+	/**
+	 * Returns the range no version satisfies, the neutral element of
+	 * {@link #union(VersionRange)}.
+	 *
+	 * @return the empty range
+	 */
+	public static VersionRange empty()
+	{
+		return EMPTY;
+	}
+
+	/**
+	 * Returns the range every version satisfies, the neutral element of
+	 * {@link #intersect(VersionRange)}.
+	 *
+	 * @return the unbounded range
+	 */
+	public static VersionRange all()
+	{
+		return ALL;
+	}
+
+	/**
+	 * Parses the SemVer Expression and compiles it into a range.
+	 *
+	 * @param expr
+	 *            a string representing the SemVer Expression
+	 * 
+	 * @return the compiled range
+	 * 
+	 * @throws ParseException
+	 *             in case of a general parse error
+	 * @throws LexerException
+	 *             when encounters an illegal character
+	 * @throws UnexpectedTokenException
+	 *             when comes across an unexpected token
+	 */
+	public static VersionRange parse(String expr)
+	{
+		return compile(ExpressionParser.newInstance().parse(expr));
+	}
+
+	/**
+	 * Compiles the expression into a range. Any expression built by the
+	 * {@code ExpressionParser} or the {@code CompositeExpression} DSL can
+	 * be compiled.
+	 *
+	 * @param expr
+	 *            the expression to compile
+	 * 
+	 * @return the compiled range
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the expression is of an unknown type
+	 */
+	public static VersionRange compile(Expression expr)
+	{
+		if (expr instanceof VersionRange)
+		{
+			return (VersionRange) expr;
+		} else if (expr instanceof CompositeExpression)
+		{
+			return compile(((CompositeExpression) expr).getExpressionTree());
+		} else if (expr instanceof And)
+		{
+			And and = (And) expr;
+			return compile(and.getLeft()).intersect(compile(and.getRight()));
+		} else if (expr instanceof Or)
+		{
+			Or or = (Or) expr;
+			return compile(or.getLeft()).union(compile(or.getRight()));
+		} else if (expr instanceof Not)
+		{
+			return compile(((Not) expr).getExpression()).complement();
+		} else if (expr instanceof Equal)
+		{
+			Version version = ((Equal) expr).getParsedVersion();
+			return of(new Interval(version, true, version, true));
+		} else if (expr instanceof NotEqual)
+		{
+			Version version = ((NotEqual) expr).getParsedVersion();
+			return of(new Interval(version, true, version, true)).complement();
+		} else if (expr instanceof Greater)
+		{
+			return of(new Interval(((Greater) expr).getParsedVersion(), false, null, false));
+		} else if (expr instanceof GreaterOrEqual)
+		{
+			return of(new Interval(((GreaterOrEqual) expr).getParsedVersion(), true, null, false));
+		} else if (expr instanceof Less)
+		{
+			return of(new Interval(null, false, ((Less) expr).getParsedVersion(), false));
+		} else if (expr instanceof LessOrEqual)
+		{
+			return of(new Interval(null, false, ((LessOrEqual) expr).getParsedVersion(), true));
+		}
+		throw new IllegalArgumentException("Cannot compile expression of type " + expr.getClass().getName());
+	}
+
+	/**
+	 * Creates a range of a single interval.
+	 *
+	 * @param interval
+	 *            the interval
+	 * 
+	 * @return the range of the interval or {@link #EMPTY} if the interval is empty
+	 */
+	private static VersionRange of(Interval interval)
+	{
+		return interval.isEmpty() ? EMPTY : new VersionRange(new Interval[] { interval });
+	}
+
+	/**
+	 * Checks if the version lies in this range by binary search for the
+	 * last interval whose lower bound admits the version.
+	 *
+	 * @param version
+	 *            the version to interpret against
+	 * 
+	 * @return {@code true} if the version lies in this range
+	 *         or {@code false} otherwise
+	 */
+	@Override
+	public boolean interpret(Version version)
+	{
+		int	low		= 0;
+		int	high	= intervals.length - 1;
+		int	found	= -1;
+		while (low <= high)
+		{
+			int mid = (low + high) >>> 1;
+			if (intervals[mid].lower == null || version.compareTo(intervals[mid].lower) >= 0)
+			{
+				found = mid;
+				low = mid + 1;
+			} else
+			{
+				high = mid - 1;
+			}
+		}
+		return found >= 0 && intervals[found].contains(version);
+	}
+
+	/**
+	 * Checks if no version satisfies this range. Since ranges are always
+	 * normalized this takes constant time.
+	 *
+	 * @return {@code true} if this range is empty
+	 */
+	public boolean isEmpty()
+	{
+		return intervals.length == 0;
+	}
+
+	/**
+	 * Checks if every version satisfies this range.
+	 *
+	 * @return {@code true} if this range is unbounded on both sides
+	 */
+	public boolean isAll()
+	{
+		return intervals.length == 1 && intervals[0].lower == null && intervals[0].upper == null;
+	}
+
+	/**
+	 * Returns the versions of the sorted set that lie in this range as one
+	 * {@code subSet} view per interval, in ascending order. Finding a slice
+	 * takes a logarithmic number of steps plus the number of elements equal
+	 * to a bound, so the set is never scanned as a whole.
+	 *
+	 * The set must be ordered consistently with
+	 * {@link Version#compareTo(Version)}, like a set using the natural order
+	 * or {@link Version#BUILD_AWARE_ORDER}.
+	 *
+	 * @param versions
+	 *            the sorted set of versions
+	 * 
+	 * @return the non-empty views of the set which lie in this range
+	 */
+	public List<NavigableSet<Version>> slice(NavigableSet<Version> versions)
+	{
+		List<NavigableSet<Version>> slices = new ArrayList<NavigableSet<Version>>(intervals.length);
+		if (versions.isEmpty())
+		{
+			return slices;
+		}
+		Comparator<? super Version> order = versions.comparator();
+		for (Interval interval : intervals)
+		{
+			Version	first	= interval.lower == null ? versions.first() : firstAbove(versions, interval);
+			Version	last	= interval.upper == null ? versions.last() : lastBelow(versions, interval);
+			if (first != null && last != null && (order == null ? first.compareTo(last) : order.compare(first, last)) <= 0)
+			{
+				slices.add(versions.subSet(first, true, last, true));
+			}
+		}
+		return slices;
+	}
+
+	/**
+	 * Finds the first element of the set admitted by the lower bound.
+	 *
+	 * Elements equal to the bound may lie on both sides of it in the set's
+	 * order, so the search steps over them in both directions.
+	 *
+	 * @param versions
+	 *            the sorted set of versions
+	 * @param interval
+	 *            the interval with a lower bound
+	 * 
+	 * @return the first admitted element or {@code null} if there is none
+	 */
+	private static Version firstAbove(NavigableSet<Version> versions, Interval interval)
+	{
+		Version	candidate	= versions.ceiling(interval.lower);
+		Version	previous	= candidate == null ? versions.last() : versions.lower(candidate);
+		while (previous != null && interval.admitsFromBelow(previous))
+		{
+			candidate = previous;
+			previous = versions.lower(previous);
+		}
+		while (candidate != null && !interval.admitsFromBelow(candidate))
+		{
+			candidate = versions.higher(candidate);
+		}
+		return candidate;
+	}
+
+	/**
+	 * Finds the last element of the set admitted by the upper bound.
+	 *
+	 * @param versions
+	 *            the sorted set of versions
+	 * @param interval
+	 *            the interval with an upper bound
+	 * 
+	 * @return the last admitted element or {@code null} if there is none
+	 * 
+	 * @see #firstAbove(NavigableSet, Interval)
+	 */
+	private static Version lastBelow(NavigableSet<Version> versions, Interval interval)
+	{
+		Version	candidate	= versions.floor(interval.upper);
+		Version	next		= candidate == null ? versions.first() : versions.higher(candidate);
+		while (next != null && interval.admitsFromAbove(next))
+		{
+			candidate = next;
+			next = versions.higher(next);
+		}
+		while (candidate != null && !interval.admitsFromAbove(candidate))
+		{
+			candidate = versions.lower(candidate);
+		}
+		return candidate;
+	}
+
+	/**
+	 * Intersects this range with the other range.
+	 *
+	 * @param other
+	 *            the other range
+	 * 
+	 * @return the range of versions lying in both ranges
+	 */
+	public VersionRange intersect(VersionRange other)
+	{
+		if (intervals.length == 0 || other.isAll())
+		{
+			return this;
+		} else if (other.intervals.length == 0 || isAll())
+		{
+			return other;
+		}
+		List<Interval>	result	= new ArrayList<Interval>();
+		int				i		= 0;
+		int				j		= 0;
+		while (i < intervals.length && j < other.intervals.length)
+		{
+			Interval	a			= intervals[i];
+			Interval	b			= other.intervals[j];
+			Interval	lowerOf		= compareLowers(a, b) >= 0 ? a : b;
+			Interval	upperOf		= compareUppers(a, b) <= 0 ? a : b;
+			Interval	overlap		= new Interval(lowerOf.lower, lowerOf.lowerInclusive, upperOf.upper, upperOf.upperInclusive);
+			if (!overlap.isEmpty())
+			{
+				result.add(overlap);
+			}
+			if (upperOf == a)
+			{
+				i++;
+			} else
+			{
+				j++;
+			}
+		}
+		return result.isEmpty() ? EMPTY : new VersionRange(result.toArray(new Interval[result.size()]));
+	}
+
+	/**
+	 * Intersects this range with the range compiled from the expression.
+	 *
+	 * @param other
+	 *            the expression to compile
+	 * 
+	 * @return the range of versions lying in this range and satisfying the expression
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the expression is of an unknown type
+	 * 
+	 * @see #compile(Expression)
+	 */
+	public VersionRange intersect(Expression other)
+	{
+		return intersect(compile(other));
+	}
+
+	/**
+	 * Unites this range with the other range.
+	 *
+	 * @param other
+	 *            the other range
+	 * 
+	 * @return the range of versions lying in either range
+	 */
+	public VersionRange union(VersionRange other)
+	{
+		if (intervals.length == 0)
+		{
+			return other;
+		} else if (other.intervals.length == 0)
+		{
+			return this;
+		}
+		Interval[] all = Arrays.copyOf(intervals, intervals.length + other.intervals.length);
+		System.arraycopy(other.intervals, 0, all, intervals.length, other.intervals.length);
+		Arrays.sort(all, VersionRange::compareLowers);
+
+		List<Interval>	result	= new ArrayList<Interval>();
+		Interval		current	= all[0];
+		for (int k = 1; k < all.length; k++)
+		{
+			Interval next = all[k];
+			if (touches(current, next))
+			{
+				Interval upperOf = compareUppers(current, next) >= 0 ? current : next;
+				current = new Interval(current.lower, current.lowerInclusive, upperOf.upper, upperOf.upperInclusive);
+			} else
+			{
+				result.add(current);
+				current = next;
+			}
+		}
+		result.add(current);
+		return new VersionRange(result.toArray(new Interval[result.size()]));
+	}
+
+	/**
+	 * Unites this range with the range compiled from the expression.
+	 *
+	 * @param other
+	 *            the expression to compile
+	 * 
+	 * @return the range of versions lying in this range or satisfying the expression
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the expression is of an unknown type
+	 * 
+	 * @see #compile(Expression)
+	 */
+	public VersionRange union(Expression other)
+	{
+		return union(compile(other));
+	}
+
+	/**
+	 * Complements this range.
+	 *
+	 * @return the range of versions not lying in this range
+	 */
+	public VersionRange complement()
+	{
+		if (intervals.length == 0)
+		{
+			return ALL;
+		}
+		List<Interval>	result			= new ArrayList<Interval>(intervals.length + 1);
+		Version			gapLower		= null;
+		boolean			gapInclusive	= false;
+		for (Interval interval : intervals)
+		{
+			if (interval.lower != null)
+			{
+				result.add(new Interval(gapLower, gapInclusive, interval.lower, !interval.lowerInclusive));
+			}
+			gapLower = interval.upper;
+			gapInclusive = !interval.upperInclusive;
+		}
+		if (gapLower != null)
+		{
+			result.add(new Interval(gapLower, gapInclusive, null, false));
+		}
+		return result.isEmpty() ? EMPTY : new VersionRange(result.toArray(new Interval[result.size()]));
+	}
+
+	/**
+	 * Checks if the interval starting after the first one overlaps or
+	 * adjoins it, so that both can be merged into one.
+	 *
+	 * @param first
+	 *            the interval with the lower start
+	 * @param second
+	 *            the interval with the higher start
+	 * 
+	 * @return {@code true} if there is no gap between the intervals
+	 */
+	private static boolean touches(Interval first, Interval second)
+	{
+		if (first.upper == null || second.lower == null)
+		{
+			return true;
+		}
+		int result = second.lower.compareTo(first.upper);
+		return result < 0 || (result == 0 && (first.upperInclusive || second.lowerInclusive));
+	}
+
+	/**
+	 * Compares the lower bounds of two intervals.
+	 *
+	 * @param a
+	 *            the first interval
+	 * @param b
+	 *            the second interval
+	 * 
+	 * @return a negative integer, zero or a positive integer if the first
+	 *         interval starts before, together with or after the second one
+	 */
+	private static int compareLowers(Interval a, Interval b)
+	{
+		if (a.lower == null || b.lower == null)
+		{
+			return (a.lower == null ? 0 : 1) - (b.lower == null ? 0 : 1);
+		}
+		int result = a.lower.compareTo(b.lower);
+		if (result == 0)
+		{
+			result = (a.lowerInclusive ? 0 : 1) - (b.lowerInclusive ? 0 : 1);
+		}
+		return result;
+	}
+
+	/**
+	 * Compares the upper bounds of two intervals.
+	 *
+	 * @param a
+	 *            the first interval
+	 * @param b
+	 *            the second interval
+	 * 
+	 * @return a negative integer, zero or a positive integer if the first
+	 *         interval ends before, together with or after the second one
+	 */
+	private static int compareUppers(Interval a, Interval b)
+	{
+		if (a.upper == null || b.upper == null)
+		{
+			return (a.upper == null ? 1 : 0) - (b.upper == null ? 1 : 0);
+		}
+		int result = a.upper.compareTo(b.upper);
+		if (result == 0)
+		{
+			result = (a.upperInclusive ? 1 : 0) - (b.upperInclusive ? 1 : 0);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if the version lies above the bound.
+	 *
+	 * @param version
+	 *            the version to check
+	 * @param bound
+	 *            the lower bound
+	 * @param inclusive
+	 *            whether the bound itself is admitted
+	 * 
+	 * @return {@code true} if the version lies above the bound
+	 */
+	private static boolean isAbove(Version version, Version bound, boolean inclusive)
+	{
+		int result = version.compareTo(bound);
+		return result > 0 || (inclusive && result == 0);
+	}
+
+	/**
+	 * Checks if the version lies below the bound.
+	 *
+	 * @param version
+	 *            the version to check
+	 * @param bound
+	 *            the upper bound
+	 * @param inclusive
+	 *            whether the bound itself is admitted
+	 * 
+	 * @return {@code true} if the version lies below the bound
+	 */
+	private static boolean isBelow(Version version, Version bound, boolean inclusive)
+	{
+		int result = version.compareTo(bound);
+		return result < 0 || (inclusive && result == 0);
+	}
+
+	/**
+	 * Returns this range in the SemVer Expression syntax, using the fewest
+	 * operators the normalized intervals allow. The result can be parsed
+	 * back by the {@code ExpressionParser} as long as all bounds are plain
+	 * {@code major.minor.patch} versions, which is the case for every range
+	 * compiled from a parsed expression.
+	 *
+	 * @return the SemVer Expression of this range
+	 */
+	public String toExpressionString()
+	{
+		if (intervals.length == 0)
+		{
+			return "<0.0.0 & >=0.0.0";
+		} else if (isAll())
+		{
+			return ">=0.0.0 | <0.0.0";
+		} else if (intervals.length == 2 && intervals[0].lower == null && intervals[1].upper == null
+			&& !intervals[0].upperInclusive && !intervals[1].lowerInclusive
+			&& intervals[0].upper.equals(intervals[1].lower))
+		{
+			return "!=" + intervals[0].upper;
+		}
+		StringBuilder sb = new StringBuilder();
+		for (Interval interval : intervals)
+		{
+			if (sb.length() > 0)
+			{
+				sb.append(" | ");
+			}
+			if (interval.lower != null && interval.upper != null && interval.lower.equals(interval.upper))
+			{
+				sb.append('=').append(interval.lower);
+			} else if (interval.lower == null)
+			{
+				sb.append(interval.upperInclusive ? "<=" : "<").append(interval.upper);
+			} else if (interval.upper == null)
+			{
+				sb.append(interval.lowerInclusive ? ">=" : ">").append(interval.lower);
+			} else
+			{
+				// the parser has no operator precedence, so conjunctions are grouped
+				boolean grouped = intervals.length > 1;
+				sb.append(grouped ? "(" : "").append(interval.lowerInclusive ? ">=" : ">").append(interval.lower)
+					.append(" & ").append(interval.upperInclusive ? "<=" : "<").append(interval.upper)
+					.append(grouped ? ")" : "");
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Checks if this range contains the same versions as the other object.
+	 * Since ranges are always normalized, equal ranges have equal intervals.
+	 *
+	 * @param other
+	 *            the object to compare with
+	 * 
+	 * @return {@code true} if the other object is an equal range
+	 */
+	@Override
+	public boolean equals(Object other)
+	{
+		if (this == other)
+		{
+			return true;
+		}
+		if (!(other instanceof VersionRange))
+		{
+			return false;
+		}
+		return Arrays.equals(intervals, ((VersionRange) other).intervals);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return Arrays.hashCode(intervals);
+	}
+
+	/**
+	 * Returns the string representation of this range
+	 * as a list of intervals.
+	 *
+	 * @return the string representation of this range
+	 */
+	@Override
+	public String toString()
+	{
+		return Arrays.toString(intervals);
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version.list;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+import dev.galacticraft.gradle.commons.version.ParseResult;
+import dev.galacticraft.gradle.commons.version.Version;
+import dev.galacticraft.gradle.commons.version.Versions;
+
+/**
+ * Parses large lists of version strings, such as the version history of an
+ * artifact, on all cores of the common fork/join pool.
+ *
+ * The strings are parsed with {@link Versions#tryToVersion} into an array,
+ * which is sorted once at the end instead of inserting every version into a
+ * tree. Lists shorter than {@link #SEQUENTIAL_THRESHOLD} are parsed on the
+ * calling thread. Strings which are no valid versions do not abort the
+ * parsing, they are reported together in the {@link Result}.
+ */
+public final class BulkVersionParser
+{
+	/**
+	 * Lists with fewer strings are parsed sequentially, and no task parses
+	 * fewer strings than this unless the list is split among all cores.
+	 */
+	public static final int SEQUENTIAL_THRESHOLD = 2048;
+
+	private BulkVersionParser()
+	{
+	}
+
+	/**
+	 * Parses the version strings and sorts the resulting versions. Of
+	 * versions with the same precedence the first one in the list is kept,
+	 * just like {@link Versions#of(List)} does.
+	 */
+	public static Result parse(List<String> versions)
+	{
+		String[] input = versions.toArray(new String[versions.size()]);
+		Version[] parsed = new Version[input.length];
+		Function<String, ParseResult<Version>> parser = Versions.tryToVersion;
+
+		List<Failure> failures;
+		if(input.length < SEQUENTIAL_THRESHOLD)
+		{
+			failures = parse(parser, input, parsed, 0, input.length);
+		}
+		else
+		{
+			int tasks = ForkJoinPool.getCommonPoolParallelism() * 4;
+			int split = Math.max(SEQUENTIAL_THRESHOLD, (input.length + tasks - 1) / tasks);
+			failures = ForkJoinPool.commonPool().invoke(new ParseTask(parser, input, parsed, 0, input.length, split));
+		}
+
+		// compact in list order, so the first of identical versions stays first
+		int size = 0;
+		for(Version version : parsed)
+		{
+			if(version != null)
+			{
+				parsed[size++] = version;
+			}
+		}
+		
+		return new Result(new VersionSet(VersionIndex.sorted(parsed, size)), failures);
+	}
+
+	private static List<Failure> parse(Function<String, ParseResult<Version>> parser, String[] input, Version[] parsed, int from, int to)
+	{
+		List<Failure> failures = null;
+		for(int i = from; i < to; i++)
+		{
+			ParseResult<Version> result = parser.apply(input[i]);
+			if(result.isSuccess())
+			{
+				parsed[i] = result.getValue();
+			}
+			else
+			{
+				if(failures == null)
+				{
+					failures = new ArrayList<>();
+				}
+				failures.add(new Failure(i, input[i], result.getError(), result.getOffset()));
+			}
+		}
+		
+		return failures == null ? Collections.emptyList() : failures;
+	}
+
+	private static class ParseTask extends RecursiveTask<List<Failure>>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final Function<String, ParseResult<Version>> parser;
+
+		private final String[] input;
+
+		private final Version[] parsed;
+
+		private final int from;
+
+		private final int to;
+
+		private final int split;
+
+		private ParseTask(Function<String, ParseResult<Version>> parser, String[] input, Version[] parsed, int from, int to, int split)
+		{
+			this.parser = parser;
+			this.input = input;
+			this.parsed = parsed;
+			this.from = from;
+			this.to = to;
+			this.split = split;
+		}
+
+		@Override
+		protected List<Failure> compute()
+		{
+			if(this.to - this.from <= this.split)
+			{
+				return parse(this.parser, this.input, this.parsed, this.from, this.to);
+			}
+			
+			int middle = (this.from + this.to) >>> 1;
+			ParseTask right = new ParseTask(this.parser, this.input, this.parsed, middle, this.to, this.split);
+			right.fork();
+			List<Failure> left = new ParseTask(this.parser, this.input, this.parsed, this.from, middle, this.split).compute();
+			List<Failure> rest = right.join();
+			if(rest.isEmpty())
+			{
+				return left;
+			}
+			if(left.isEmpty())
+			{
+				return rest;
+			}
+			
+			List<Failure> failures = new ArrayList<>(left.size() + rest.size());
+			failures.addAll(left);
+			failures.addAll(rest);
+			return failures;
+		}
+	}
+
+	/**
+	 * The versions parsed from a list together with the strings of the list
+	 * which could not be parsed.
+	 */
+	public static final class Result
+	{
+		private final VersionSet versions;
+
+		private final List<Failure> failures;
+
+		private Result(VersionSet versions, List<Failure> failures)
+		{
+			this.versions = versions;
+			this.failures = Collections.unmodifiableList(failures);
+		}
+
+		/**
+		 * Returns the sorted set of all valid versions.
+		 */
+		public VersionSet getVersions()
+		{
+			return this.versions;
+		}
+
+		/**
+		 * Returns the strings which are no valid versions, in list order.
+		 */
+		public List<Failure> getFailures()
+		{
+			return this.failures;
+		}
+
+		public boolean hasFailures()
+		{
+			return !this.failures.isEmpty();
+		}
+	}
+
+	/**
+	 * A string of the list which is no valid version.
+	 */
+	public static final class Failure
+	{
+		private final int index;
+
+		private final String input;
+
+		private final ParseResult.Error error;
+
+		private final int offset;
+
+		private Failure(int index, String input, ParseResult.Error error, int offset)
+		{
+			this.index = index;
+			this.input = input;
+			this.error = error;
+			this.offset = offset;
+		}
+
+		/**
+		 * Returns the position of the string in the list.
+		 */
+		public int getIndex()
+		{
+			return this.index;
+		}
+
+		public String getInput()
+		{
+			return this.input;
+		}
+
+		public ParseResult.Error getError()
+		{
+			return this.error;
+		}
+
+		/**
+		 * Returns the offset in the string at which parsing failed.
+		 */
+		public int getOffset()
+		{
+			return this.offset;
+		}
+
+		@Override
+		public String toString()
+		{
+			return "\"" + this.input + "\" at index " + this.index + ": " + this.error + " at offset " + this.offset;
+		}
+	}
+}
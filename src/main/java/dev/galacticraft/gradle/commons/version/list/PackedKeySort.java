@@ -0,0 +1,256 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version.list;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import dev.galacticraft.gradle.commons.version.Version;
+
+/**
+ * Sorts versions by their packed sort keys instead of comparing the version
+ * objects.
+ *
+ * The keys are extracted once and sorted with a least significant digit
+ * radix sort, skipping the digits which are the same for all keys, as the
+ * high bits usually are. Only versions with equal keys are compared after
+ * that: pre-release versions, and in {@link Version#BUILD_AWARE_ORDER} also
+ * releases with build metadata. If a version has no key, because a number
+ * does not fit or it carries more than three numbers, the whole array is
+ * sorted by comparison instead.
+ *
+ * Comparison sorts use a plain merge sort instead of {@code Arrays.sort},
+ * which rejects comparators that are not transitive. Pre-release
+ * identifiers do not compare transitively, for example
+ * {@code 1.0.0-2 < 1.0.0-10 < 1.0.0-1a < 1.0.0-2}, and inserting such
+ * versions into a {@code TreeSet} one by one never fails either.
+ */
+final class PackedKeySort
+{
+	/**
+	 * Arrays with fewer versions are sorted by comparison right away.
+	 */
+	private static final int RADIX_THRESHOLD = 64;
+
+	private static final int DIGIT_BITS = 8;
+
+	private static final int DIGITS = 1 << DIGIT_BITS;
+
+	private static final int DIGIT_MASK = DIGITS - 1;
+
+	/**
+	 * The length of the runs which the merge sort sorts by insertion first.
+	 */
+	private static final int INSERTION_RUN = 16;
+
+	private PackedKeySort()
+	{
+	}
+
+	/**
+	 * Stably sorts the first {@code size} versions of the array in natural
+	 * order if {@code order} is {@code null} or else in
+	 * {@link Version#BUILD_AWARE_ORDER}, which both refine the order of the
+	 * keys.
+	 */
+	static void sort(Version[] array, int size, Comparator<? super Version> order)
+	{
+		if(size < RADIX_THRESHOLD)
+		{
+			comparisonSort(array, 0, size, order);
+			return;
+		}
+		
+		long[] keys = new long[size];
+		int[] indices = new int[size];
+		for(int i = 0; i < size; i++)
+		{
+			long key = array[i].getSortKey();
+			if(key < 0)
+			{
+				comparisonSort(array, 0, size, order);
+				return;
+			}
+			
+			keys[i] = key;
+			indices[i] = i;
+		}
+		
+		radixSort(keys, indices);
+		Version[] sorted = new Version[size];
+		for(int i = 0; i < size; i++)
+		{
+			sorted[i] = array[indices[i]];
+		}
+		System.arraycopy(sorted, 0, array, 0, size);
+		
+		for(int start = 0, end; start < size; start = end)
+		{
+			end = start + 1;
+			while(end < size && keys[end] == keys[start])
+			{
+				end++;
+			}
+			
+			// releases with the same key have the same precedence, so only their builds can differ
+			if(end - start > 1 && (order != null || (keys[start] & 1L) == 0))
+			{
+				comparisonSort(array, start, end, order);
+			}
+		}
+	}
+
+	/**
+	 * Stably sorts the versions from {@code from} to {@code to} by comparison,
+	 * without checking that the order is consistent.
+	 */
+	static void comparisonSort(Version[] array, int from, int to, Comparator<? super Version> order)
+	{
+		Comparator<? super Version> comparator = order == null ? Comparator.naturalOrder() : order;
+		int size = to - from;
+		if(size <= INSERTION_RUN)
+		{
+			insertionSort(array, from, to, comparator);
+			return;
+		}
+		
+		Version[] source = Arrays.copyOfRange(array, from, to);
+		for(int start = 0; start < size; start += INSERTION_RUN)
+		{
+			insertionSort(source, start, Math.min(start + INSERTION_RUN, size), comparator);
+		}
+		
+		Version[] target = new Version[size];
+		for(int width = INSERTION_RUN; width < size; width <<= 1)
+		{
+			for(int low = 0; low < size; low += width << 1)
+			{
+				merge(source, target, low, Math.min(low + width, size), Math.min(low + (width << 1), size), comparator);
+			}
+			
+			Version[] swap = source;
+			source = target;
+			target = swap;
+		}
+		
+		System.arraycopy(source, 0, array, from, size);
+	}
+
+	private static void insertionSort(Version[] array, int from, int to, Comparator<? super Version> comparator)
+	{
+		for(int i = from + 1; i < to; i++)
+		{
+			Version version = array[i];
+			int j = i - 1;
+			while(j >= from && comparator.compare(array[j], version) > 0)
+			{
+				array[j + 1] = array[j];
+				j--;
+			}
+			
+			array[j + 1] = version;
+		}
+	}
+
+	/**
+	 * Merges the sorted runs {@code [low, middle)} and {@code [middle, high)}
+	 * of the source into the target, taking the left one first on ties.
+	 */
+	private static void merge(Version[] source, Version[] target, int low, int middle, int high, Comparator<? super Version> comparator)
+	{
+		int left = low;
+		int right = middle;
+		for(int i = low; i < high; i++)
+		{
+			if(right >= high || left < middle && comparator.compare(source[right], source[left]) >= 0)
+			{
+				target[i] = source[left++];
+			}
+			else
+			{
+				target[i] = source[right++];
+			}
+		}
+	}
+
+	/**
+	 * Sorts the non-negative keys and permutes the indices along with them.
+	 * Equal keys keep the order of their indices.
+	 */
+	private static void radixSort(long[] keys, int[] indices)
+	{
+		int size = keys.length;
+		int[][] counts = new int[Long.BYTES][DIGITS];
+		for(long key : keys)
+		{
+			for(int digit = 0; digit < Long.BYTES; digit++)
+			{
+				counts[digit][(int) (key >>> (digit * DIGIT_BITS)) & DIGIT_MASK]++;
+			}
+		}
+		
+		long[] from = keys;
+		int[] fromIndices = indices;
+		long[] to = new long[size];
+		int[] toIndices = new int[size];
+		for(int digit = 0; digit < Long.BYTES; digit++)
+		{
+			int shift = digit * DIGIT_BITS;
+			int[] offsets = counts[digit];
+			if(offsets[(int) (from[0] >>> shift) & DIGIT_MASK] == size)
+			{
+				continue;
+			}
+			
+			for(int bucket = 0, offset = 0; bucket < DIGITS; bucket++)
+			{
+				int count = offsets[bucket];
+				offsets[bucket] = offset;
+				offset += count;
+			}
+			
+			for(int i = 0; i < size; i++)
+			{
+				int position = offsets[(int) (from[i] >>> shift) & DIGIT_MASK]++;
+				to[position] = from[i];
+				toIndices[position] = fromIndices[i];
+			}
+			
+			long[] swapKeys = from;
+			from = to;
+			to = swapKeys;
+			int[] swapIndices = fromIndices;
+			fromIndices = toIndices;
+			toIndices = swapIndices;
+		}
+		
+		if(from != keys)
+		{
+			System.arraycopy(from, 0, keys, 0, size);
+			System.arraycopy(fromIndices, 0, indices, 0, size);
+		}
+	}
+}
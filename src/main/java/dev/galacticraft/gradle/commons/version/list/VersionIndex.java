@@ -0,0 +1,348 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version.list;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import java.util.function.Predicate;
+
+import dev.galacticraft.gradle.commons.version.ParseResult;
+import dev.galacticraft.gradle.commons.version.Version;
+import dev.galacticraft.gradle.commons.version.Versions;
+
+/**
+ * An immutable, array-backed sorted set of versions in their natural order.
+ *
+ * The versions are sorted once when the index is built. Lookups are binary
+ * searches, and {@link #subSet}, {@link #headSet} and {@link #tailSet} return
+ * views sharing the same array instead of copies.
+ */
+public final class VersionIndex extends AbstractSet<Version> implements SortedSet<Version>
+{
+	private static final VersionIndex EMPTY = new VersionIndex(new Version[0], 0, 0);
+
+	private final Version[] versions;
+
+	private final int from;
+
+	private final int to;
+
+	private VersionIndex(Version[] versions, int from, int to)
+	{
+		this.versions = versions;
+		this.from = from;
+		this.to = to;
+	}
+
+	public static VersionIndex empty()
+	{
+		return EMPTY;
+	}
+
+	/**
+	 * Builds an index of the versions. Of versions with the same precedence
+	 * only the first one is kept, as a {@code TreeSet} in natural order would.
+	 * Pre-release identifiers which compare non-transitively, like
+	 * {@code 2}, {@code 10} and {@code 1a}, are accepted as well, but then
+	 * neither the order nor the dropped duplicates are guaranteed to match a
+	 * {@code TreeSet}, whose result depends on the insertion order.
+	 */
+	public static VersionIndex of(Collection<? extends Version> versions)
+	{
+		return sorted(versions.toArray(new Version[versions.size()]));
+	}
+
+	/**
+	 * Parses the version strings with {@link Versions#tryToVersion} and builds
+	 * an index of the resulting versions, skipping strings which are no valid
+	 * versions.
+	 */
+	public static VersionIndex parse(Collection<String> versions)
+	{
+		Version[] array = new Version[versions.size()];
+		int size = 0;
+		for(String version : versions)
+		{
+			ParseResult<Version> result = Versions.tryToVersion.apply(version);
+			if(result.isSuccess())
+			{
+				array[size++] = result.getValue();
+			}
+		}
+		
+		return sorted(size == array.length ? array : Arrays.copyOf(array, size));
+	}
+
+	/**
+	 * Sorts the first {@code size} versions of the array and builds an index
+	 * of them. Of versions with the same precedence the one first in
+	 * {@link Version#BUILD_AWARE_ORDER} is kept, just like collecting them
+	 * into a {@code VersionSet} and copying that into natural order would.
+	 */
+	static VersionIndex distinct(Version[] array, int size)
+	{
+		PackedKeySort.sort(array, size, Version.BUILD_AWARE_ORDER);
+		return unique(array, size);
+	}
+
+	/**
+	 * Wraps the first {@code size} versions of an array which is already
+	 * sorted in natural order and free of duplicates.
+	 */
+	static VersionIndex ofSorted(Version[] array, int size)
+	{
+		return size == 0 ? EMPTY : new VersionIndex(array, 0, size);
+	}
+
+	/**
+	 * Sorts the first {@code size} versions of the array and builds an index
+	 * of them. Of versions with the same precedence the one first in the
+	 * array is kept, as a {@code TreeSet} in natural order would, as long as
+	 * the versions compare transitively.
+	 */
+	static VersionIndex sorted(Version[] array, int size)
+	{
+		PackedKeySort.sort(array, size, null);
+		return unique(array, size);
+	}
+
+	private static VersionIndex sorted(Version[] array)
+	{
+		return sorted(array, array.length);
+	}
+
+	private static VersionIndex unique(Version[] array, int length)
+	{
+		int size = 0;
+		for(int i = 0; i < length; i++)
+		{
+			if(size == 0 || array[size - 1].compareTo(array[i]) != 0)
+			{
+				array[size++] = array[i];
+			}
+		}
+		
+		return ofSorted(array, size);
+	}
+
+	public Version[] asArray()
+	{
+		return Arrays.copyOfRange(this.versions, this.from, this.to);
+	}
+
+	public VersionIndex extractSnapshots()
+	{
+		return this.filter(Version::isSnapshotVersion);
+	}
+
+	public VersionIndex extractReleases()
+	{
+		return this.filter(Version::isStable);
+	}
+
+	private VersionIndex filter(Predicate<Version> predicate)
+	{
+		Version[] result = new Version[this.size()];
+		int size = 0;
+		for(int i = this.from; i < this.to; i++)
+		{
+			if(predicate.test(this.versions[i]))
+			{
+				result[size++] = this.versions[i];
+			}
+		}
+		
+		return size == 0 ? EMPTY : new VersionIndex(result, 0, size);
+	}
+
+	@Override
+	public VersionIndex subSet(Version fromElement, Version toElement)
+	{
+		if(fromElement.compareTo(toElement) > 0)
+		{
+			throw new IllegalArgumentException("fromElement > toElement");
+		}
+		
+		int start = this.lowerBound(fromElement);
+		int end = Math.max(start, this.lowerBound(toElement));
+		return new VersionIndex(this.versions, start, end);
+	}
+
+	@Override
+	public VersionIndex headSet(Version toElement)
+	{
+		return new VersionIndex(this.versions, this.from, this.lowerBound(toElement));
+	}
+
+	@Override
+	public VersionIndex tailSet(Version fromElement)
+	{
+		return new VersionIndex(this.versions, this.lowerBound(fromElement), this.to);
+	}
+
+	public VersionIndex versionsUpTo(Version toElement)
+	{
+		return this.headSet(toElement);
+	}
+
+	public VersionIndex versionsFrom(Version fromElement)
+	{
+		return this.tailSet(fromElement);
+	}
+
+	public Version oldest()
+	{
+		return this.first();
+	}
+
+	public Version latest()
+	{
+		return this.last();
+	}
+
+	@Override
+	public Version first()
+	{
+		if(this.isEmpty())
+		{
+			throw new NoSuchElementException();
+		}
+		
+		return this.versions[this.from];
+	}
+
+	@Override
+	public Version last()
+	{
+		if(this.isEmpty())
+		{
+			throw new NoSuchElementException();
+		}
+		
+		return this.versions[this.to - 1];
+	}
+
+	public Version getVersion(String version)
+	{
+		return this.getVersion(Version.of(version));
+	}
+
+	public Version getVersion(Version version)
+	{
+		int index = this.lowerBound(version);
+		if(index < this.to && this.versions[index].compareTo(version) == 0)
+		{
+			return this.versions[index];
+		}
+		
+		return Version.Null();
+	}
+
+	@Override
+	public boolean contains(Object o)
+	{
+		if(!(o instanceof Version))
+		{
+			return false;
+		}
+		
+		int index = this.lowerBound((Version) o);
+		return index < this.to && this.versions[index].compareTo((Version) o) == 0;
+	}
+
+	/**
+	 * Returns the index of the first version in this view which is not less
+	 * than the given one, or the end of this view if there is none.
+	 */
+	private int lowerBound(Version version)
+	{
+		int low = this.from;
+		int high = this.to;
+		while(low < high)
+		{
+			int mid = (low + high) >>> 1;
+			if(this.versions[mid].compareTo(version) < 0)
+			{
+				low = mid + 1;
+			}
+			else
+			{
+				high = mid;
+			}
+		}
+		
+		return low;
+	}
+
+	@Override
+	public Comparator<? super Version> comparator()
+	{
+		return null;
+	}
+
+	@Override
+	public Iterator<Version> iterator()
+	{
+		return new Iterator<Version>()
+		{
+			private int next = VersionIndex.this.from;
+
+			@Override
+			public boolean hasNext()
+			{
+				return this.next < VersionIndex.this.to;
+			}
+
+			@Override
+			public Version next()
+			{
+				if(!this.hasNext())
+				{
+					throw new NoSuchElementException();
+				}
+				
+				return VersionIndex.this.versions[this.next++];
+			}
+		};
+	}
+
+	@Override
+	public int size()
+	{
+		return this.to - this.from;
+	}
+
+	@Override
+	public Object[] toArray()
+	{
+		return this.asArray();
+	}
+}
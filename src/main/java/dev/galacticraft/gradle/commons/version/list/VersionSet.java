@@ -25,27 +25,61 @@
 
 package dev.galacticraft.gradle.commons.version.list;
 
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import dev.galacticraft.gradle.commons.version.Version;
+import dev.galacticraft.gradle.commons.version.VersionDecoder;
+import dev.galacticraft.gradle.commons.version.VersionEncoder;
 import dev.galacticraft.gradle.commons.version.Versions;
+import dev.galacticraft.gradle.commons.version.expr.Expression;
+import dev.galacticraft.gradle.commons.version.expr.VersionRange;
 
 public class VersionSet extends TreeSet<Version> implements SortedSet<Version>
 {
 	private static final long serialVersionUID = 1L;
 
+	private static final int NATURAL_ORDER = 0;
+
+	private static final int BUILD_AWARE_ORDER = 1;
+
+	/**
+	 * The versions of this set by their string form, only used to skip
+	 * parsing in {@link #getVersion(String)}. Like the other cached views the
+	 * map is rebuilt once this set was modified, and it is filled before it
+	 * is assigned and never changed afterwards, so that concurrent readers of
+	 * this set only ever see a complete map.
+	 */
+	private transient Cached<Map<String, Version>> parsed;
+
+	private transient int modifications;
+
+	private transient Cached<VersionIndex> snapshots;
+
+	private transient Cached<VersionIndex> releases;
+
 	public static VersionCollector collectVersions()
 	{
 		return new VersionCollector();
@@ -75,7 +109,7 @@ public class VersionSet extends TreeSet<Version> implements SortedSet<Version>
 	@SafeVarargs
 	public VersionSet(String... versions)
 	{
-		this(Arrays.asList(versions).stream().map(Version::of).collect(Collectors.toList()));
+		this(Arrays.asList(versions).stream().map(Versions.toVersion).collect(Collectors.toList()));
 	}
 
 	public Version[] asArray()
@@ -85,12 +119,220 @@ public class VersionSet extends TreeSet<Version> implements SortedSet<Version>
 
 	public VersionSet extractSnapshots()
 	{
-		return new VersionSet(this.stream().filter(Version::isSnapshotVersion).collect(collectVersions()));
+		return new VersionSet(this.snapshots());
 	}
 	
 	public VersionSet extractReleases()
 	{
-		return new VersionSet(this.stream().filter(Version::isStable).collect(collectVersions()));
+		return new VersionSet(this.releases());
+	}
+
+	/**
+	 * Returns the snapshot versions of this set in natural order. The view is
+	 * built once and reused until this set is modified.
+	 */
+	public VersionIndex snapshots()
+	{
+		Cached<VersionIndex> snapshots = this.snapshots;
+		if(snapshots == null || snapshots.stamp != this.stamp())
+		{
+			snapshots = this.partition(Version::isSnapshotVersion);
+			this.snapshots = snapshots;
+		}
+		
+		return snapshots.value;
+	}
+
+	/**
+	 * Returns the stable versions of this set in natural order. The view is
+	 * built once and reused until this set is modified.
+	 */
+	public VersionIndex releases()
+	{
+		Cached<VersionIndex> releases = this.releases;
+		if(releases == null || releases.stamp != this.stamp())
+		{
+			releases = this.partition(Version::isStable);
+			this.releases = releases;
+		}
+		
+		return releases.value;
+	}
+
+	private Cached<VersionIndex> partition(Predicate<Version> predicate)
+	{
+		long stamp = this.stamp();
+		Version[] array = new Version[this.size()];
+		int size = 0;
+		Comparator<? super Version> order = this.comparator();
+		if(order != null && order != Version.BUILD_AWARE_ORDER)
+		{
+			for(Version v : this)
+			{
+				if(predicate.test(v))
+				{
+					array[size++] = v;
+				}
+			}
+			
+			return new Cached<VersionIndex>(VersionIndex.distinct(array, size), stamp);
+		}
+		
+		// both orders refine the natural order, so the filtered versions are sorted already
+		for(Version v : this)
+		{
+			if(predicate.test(v) && (size == 0 || array[size - 1].compareTo(v) != 0))
+			{
+				array[size++] = v;
+			}
+		}
+		
+		return new Cached<VersionIndex>(VersionIndex.ofSorted(array, size), stamp);
+	}
+
+	/**
+	 * Identifies the contents of this set for the cached views. Mutations
+	 * through this set, its iterators and its navigable views all count as
+	 * modifications, as the views and their iterators are tracked as well.
+	 */
+	private long stamp()
+	{
+		return this.modifications;
+	}
+
+	@Override
+	public boolean add(Version e)
+	{
+		this.modifications++;
+		return super.add(e);
+	}
+
+	/**
+	 * Adds the versions. If this set is empty and ordered naturally or by
+	 * {@link Version#BUILD_AWARE_ORDER}, unsorted versions are sorted by their
+	 * packed keys first, so that the tree is built from them in linear time
+	 * instead of inserting them one by one. Of versions equal in the order of
+	 * this set the first one is kept either way.
+	 */
+	@Override
+	public boolean addAll(Collection<? extends Version> c)
+	{
+		this.modifications++;
+		Comparator<? super Version> order = this.comparator();
+		if(this.isEmpty() && (order == null || order == Version.BUILD_AWARE_ORDER)
+			&& !(c instanceof SortedSet && ((SortedSet<?>) c).comparator() == order))
+		{
+			return super.addAll(sortedRun(c, order));
+		}
+		
+		return super.addAll(c);
+	}
+
+	private static SortedRun sortedRun(Collection<? extends Version> c, Comparator<? super Version> order)
+	{
+		Version[] array = c.toArray(new Version[c.size()]);
+		PackedKeySort.sort(array, array.length, order);
+		
+		Comparator<? super Version> precedence = order == null ? Comparator.naturalOrder() : order;
+		int size = 0;
+		for(int i = 0; i < array.length; i++)
+		{
+			if(size == 0 || precedence.compare(array[size - 1], array[i]) != 0)
+			{
+				array[size++] = array[i];
+			}
+		}
+		
+		return new SortedRun(size == array.length ? array : Arrays.copyOf(array, size), order);
+	}
+
+	@Override
+	public boolean remove(Object o)
+	{
+		this.modifications++;
+		return super.remove(o);
+	}
+
+	@Override
+	public void clear()
+	{
+		this.modifications++;
+		super.clear();
+	}
+
+	@Override
+	public Version pollFirst()
+	{
+		this.modifications++;
+		return super.pollFirst();
+	}
+
+	@Override
+	public Version pollLast()
+	{
+		this.modifications++;
+		return super.pollLast();
+	}
+
+	@Override
+	public Iterator<Version> iterator()
+	{
+		return this.tracking(super.iterator());
+	}
+
+	@Override
+	public Iterator<Version> descendingIterator()
+	{
+		return this.tracking(super.descendingIterator());
+	}
+
+	private Iterator<Version> tracking(Iterator<Version> iterator)
+	{
+		return new Iterator<Version>()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Version next()
+			{
+				return iterator.next();
+			}
+
+			@Override
+			public void remove()
+			{
+				VersionSet.this.modifications++;
+				iterator.remove();
+			}
+		};
+	}
+
+	@Override
+	public NavigableSet<Version> descendingSet()
+	{
+		return new TrackedView(super.descendingSet());
+	}
+
+	@Override
+	public NavigableSet<Version> subSet(Version fromElement, boolean fromInclusive, Version toElement, boolean toInclusive)
+	{
+		return new TrackedView(super.subSet(fromElement, fromInclusive, toElement, toInclusive));
+	}
+
+	@Override
+	public NavigableSet<Version> headSet(Version toElement, boolean inclusive)
+	{
+		return new TrackedView(super.headSet(toElement, inclusive));
+	}
+
+	@Override
+	public NavigableSet<Version> tailSet(Version fromElement, boolean inclusive)
+	{
+		return new TrackedView(super.tailSet(fromElement, inclusive));
 	}
 
 	@Override
@@ -119,13 +361,101 @@ public class VersionSet extends TreeSet<Version> implements SortedSet<Version>
 		return super.last();
 	}
 	
+	@SuppressWarnings("unchecked")
+	public VersionSet satisfying(Expression expression)
+	{
+		VersionSet result = new VersionSet((Comparator<Version>) this.comparator());
+		if(expression instanceof VersionRange)
+		{
+			for(NavigableSet<Version> slice : ((VersionRange) expression).slice(this))
+			{
+				result.addAll(slice);
+			}
+		}
+		else
+		{
+			this.stream().filter(expression::interpret).forEach(result::add);
+		}
+		
+		return result;
+	}
+	
+	public Version latestSatisfying(Expression expression)
+	{
+		if(expression instanceof VersionRange)
+		{
+			List<NavigableSet<Version>> slices = ((VersionRange) expression).slice(this);
+			return slices.isEmpty() ? Version.Null() : slices.get(slices.size() - 1).last();
+		}
+		
+		for(Iterator<Version> it = this.descendingIterator(); it.hasNext();)
+		{
+			Version v = it.next();
+			if(expression.interpret(v))
+			{
+				return v;
+			}
+		}
+		
+		return Version.Null();
+	}
+	
+	public Version oldestSatisfying(Expression expression)
+	{
+		if(expression instanceof VersionRange)
+		{
+			List<NavigableSet<Version>> slices = ((VersionRange) expression).slice(this);
+			return slices.isEmpty() ? Version.Null() : slices.get(0).first();
+		}
+		
+		for(Version v : this)
+		{
+			if(expression.interpret(v))
+			{
+				return v;
+			}
+		}
+		
+		return Version.Null();
+	}
+	
 	public Version getVersion(String version)
 	{
-		return getVersion(Version.of(version));
+		Cached<Map<String, Version>> parsed = this.parsed;
+		if(parsed == null || parsed.stamp != this.stamp())
+		{
+			long stamp = this.stamp();
+			Map<String, Version> map = new HashMap<String, Version>(this.size() * 2);
+			for(Version v : this)
+			{
+				map.putIfAbsent(v.toString(), v);
+			}
+			
+			parsed = new Cached<Map<String, Version>>(Collections.unmodifiableMap(map), stamp);
+			this.parsed = parsed;
+		}
+		
+		Version known = parsed.value.get(version);
+		return getVersion(known != null ? known : Version.of(version));
 	}
 	
 	public Version getVersion(Version version)
 	{
+		Comparator<? super Version> comparator = this.comparator();
+		if(comparator == null || comparator == Version.BUILD_AWARE_ORDER)
+		{
+			// both orders refine compareTo, so equal versions are neighbours around the ceiling
+			Version candidate = this.ceiling(version);
+			Version previous = candidate == null ? this.isEmpty() ? null : this.last() : this.lower(candidate);
+			while(previous != null && previous.equals(version))
+			{
+				candidate = previous;
+				previous = this.lower(previous);
+			}
+			
+			return candidate != null && candidate.equals(version) ? candidate : Version.Null();
+		}
+		
 		for(Version v : this)
 		{
 			if(v.equals(version))
@@ -143,22 +473,91 @@ public class VersionSet extends TreeSet<Version> implements SortedSet<Version>
 		return super.toString();
 	}
 
-	public static class VersionCollector implements Collector<Version, TreeSet<Version>, TreeSet<Version>>
+	/**
+	 * Writes the order and the versions of this set in iteration order, so
+	 * that {@link #readFrom(VersionDecoder)} can build the tree without
+	 * sorting. Only sets in natural order or {@link Version#BUILD_AWARE_ORDER}
+	 * can be written.
+	 *
+	 * @throws IllegalArgumentException if the set has another comparator
+	 */
+	public void writeTo(VersionEncoder out) throws IOException
+	{
+		Comparator<? super Version> order = this.comparator();
+		if(order != null && order != Version.BUILD_AWARE_ORDER)
+		{
+			throw new IllegalArgumentException("Cannot write a set ordered by " + order);
+		}
+		
+		out.writeByte(order == null ? NATURAL_ORDER : BUILD_AWARE_ORDER);
+		out.writeVarInt(this.size());
+		for(Version version : this)
+		{
+			version.writeTo(out);
+		}
+	}
+
+	/**
+	 * Reads a set written by {@link #writeTo(VersionEncoder)}. The versions are
+	 * only checked to be in ascending order, and the tree is built from them in
+	 * linear time.
+	 *
+	 * @throws StreamCorruptedException if the versions are not in ascending order
+	 */
+	public static VersionSet readFrom(VersionDecoder in) throws IOException
+	{
+		int tag = in.readByte();
+		if(tag != NATURAL_ORDER && tag != BUILD_AWARE_ORDER)
+		{
+			throw new StreamCorruptedException("Unknown order " + tag);
+		}
+		
+		Comparator<Version> order = tag == NATURAL_ORDER ? Comparator.naturalOrder() : Version.BUILD_AWARE_ORDER;
+		int size = in.readVarInt();
+		// the size is not trusted, so the array grows as the versions are read
+		Version[] versions = new Version[Math.min(size, 64)];
+		for(int i = 0; i < size; i++)
+		{
+			if(i == versions.length)
+			{
+				versions = Arrays.copyOf(versions, (int) Math.min(size, 2L * i));
+			}
+			
+			versions[i] = Version.readFrom(in);
+			if(i > 0 && order.compare(versions[i - 1], versions[i]) >= 0)
+			{
+				throw new StreamCorruptedException("Versions out of order at " + i);
+			}
+		}
+		
+		VersionSet set = new VersionSet(tag == NATURAL_ORDER ? null : Version.BUILD_AWARE_ORDER);
+		set.addAll(new SortedRun(versions, set.comparator()));
+		return set;
+	}
+
+	/**
+	 * Collects versions into a natural order {@code VersionSet}. Each thread
+	 * appends to its own unsorted buffer, and the finisher sorts the merged
+	 * buffer once and builds the tree from it in linear time. Of versions with
+	 * the same precedence the one first in {@link Version#BUILD_AWARE_ORDER}
+	 * is kept.
+	 */
+	public static class VersionCollector implements Collector<Version, List<Version>, TreeSet<Version>>
 	{
 		@Override
-		public Supplier<TreeSet<Version>> supplier()
+		public Supplier<List<Version>> supplier()
 		{
-			return VersionSet::new;
+			return ArrayList::new;
 		}
 
 		@Override
-		public BiConsumer<TreeSet<Version>, Version> accumulator()
+		public BiConsumer<List<Version>, Version> accumulator()
 		{
 			return (list, object) -> list.add(object);
 		}
 
 		@Override
-		public BinaryOperator<TreeSet<Version>> combiner()
+		public BinaryOperator<List<Version>> combiner()
 		{
 	        return (l1, l2) ->
 	        {
@@ -168,15 +567,262 @@ public class VersionSet extends TreeSet<Version> implements SortedSet<Version>
 		}
 
 		@Override
-		public Function<TreeSet<Version>, TreeSet<Version>> finisher()
+		public Function<List<Version>, TreeSet<Version>> finisher()
 		{
-			return Versions::set;
+			return (list) -> new VersionSet(VersionIndex.distinct(list.toArray(new Version[list.size()]), list.size()));
 		}
 
 		@Override
 		public Set<Characteristics> characteristics()
 		{
-			return EnumSet.of(Characteristics.CONCURRENT);
+			return EnumSet.noneOf(Characteristics.class);
+		}
+	}
+
+	/**
+	 * A cached view together with the stamp of the contents it was built
+	 * from. Both are final, so the pair is safely published through a single
+	 * field and a reader never sees one without the other.
+	 */
+	private static class Cached<T>
+	{
+		final T value;
+
+		final long stamp;
+
+		Cached(T value, long stamp)
+		{
+			this.value = value;
+			this.stamp = stamp;
+		}
+	}
+
+	/**
+	 * A navigable view of this set that counts its mutations, and those of
+	 * its iterators and nested views, as modifications of this set.
+	 */
+	private class TrackedView extends AbstractSet<Version> implements NavigableSet<Version>
+	{
+		private final NavigableSet<Version> view;
+
+		TrackedView(NavigableSet<Version> view)
+		{
+			this.view = view;
+		}
+
+		@Override
+		public int size()
+		{
+			return this.view.size();
+		}
+
+		@Override
+		public boolean isEmpty()
+		{
+			return this.view.isEmpty();
+		}
+
+		@Override
+		public boolean contains(Object o)
+		{
+			return this.view.contains(o);
+		}
+
+		@Override
+		public boolean add(Version e)
+		{
+			VersionSet.this.modifications++;
+			return this.view.add(e);
+		}
+
+		@Override
+		public boolean remove(Object o)
+		{
+			VersionSet.this.modifications++;
+			return this.view.remove(o);
+		}
+
+		@Override
+		public void clear()
+		{
+			VersionSet.this.modifications++;
+			this.view.clear();
+		}
+
+		@Override
+		public Iterator<Version> iterator()
+		{
+			return VersionSet.this.tracking(this.view.iterator());
+		}
+
+		@Override
+		public Iterator<Version> descendingIterator()
+		{
+			return VersionSet.this.tracking(this.view.descendingIterator());
+		}
+
+		@Override
+		public Comparator<? super Version> comparator()
+		{
+			return this.view.comparator();
+		}
+
+		@Override
+		public Version first()
+		{
+			return this.view.first();
+		}
+
+		@Override
+		public Version last()
+		{
+			return this.view.last();
+		}
+
+		@Override
+		public Version lower(Version e)
+		{
+			return this.view.lower(e);
+		}
+
+		@Override
+		public Version floor(Version e)
+		{
+			return this.view.floor(e);
+		}
+
+		@Override
+		public Version ceiling(Version e)
+		{
+			return this.view.ceiling(e);
+		}
+
+		@Override
+		public Version higher(Version e)
+		{
+			return this.view.higher(e);
+		}
+
+		@Override
+		public Version pollFirst()
+		{
+			VersionSet.this.modifications++;
+			return this.view.pollFirst();
+		}
+
+		@Override
+		public Version pollLast()
+		{
+			VersionSet.this.modifications++;
+			return this.view.pollLast();
+		}
+
+		@Override
+		public NavigableSet<Version> descendingSet()
+		{
+			return new TrackedView(this.view.descendingSet());
+		}
+
+		@Override
+		public NavigableSet<Version> subSet(Version fromElement, boolean fromInclusive, Version toElement, boolean toInclusive)
+		{
+			return new TrackedView(this.view.subSet(fromElement, fromInclusive, toElement, toInclusive));
+		}
+
+		@Override
+		public NavigableSet<Version> headSet(Version toElement, boolean inclusive)
+		{
+			return new TrackedView(this.view.headSet(toElement, inclusive));
+		}
+
+		@Override
+		public NavigableSet<Version> tailSet(Version fromElement, boolean inclusive)
+		{
+			return new TrackedView(this.view.tailSet(fromElement, inclusive));
+		}
+
+		@Override
+		public SortedSet<Version> subSet(Version fromElement, Version toElement)
+		{
+			return this.subSet(fromElement, true, toElement, false);
+		}
+
+		@Override
+		public SortedSet<Version> headSet(Version toElement)
+		{
+			return this.headSet(toElement, false);
+		}
+
+		@Override
+		public SortedSet<Version> tailSet(Version fromElement)
+		{
+			return this.tailSet(fromElement, true);
+		}
+	}
+
+	/**
+	 * An array already sorted by the comparator, which lets
+	 * {@link TreeSet#addAll(Collection)} build the tree in linear time. Only
+	 * the methods used for that are supported.
+	 */
+	private static class SortedRun extends AbstractSet<Version> implements SortedSet<Version>
+	{
+		private final Version[] versions;
+
+		private final Comparator<? super Version> comparator;
+
+		SortedRun(Version[] versions, Comparator<? super Version> comparator)
+		{
+			this.versions = versions;
+			this.comparator = comparator;
+		}
+
+		@Override
+		public Iterator<Version> iterator()
+		{
+			return Arrays.asList(this.versions).iterator();
+		}
+
+		@Override
+		public int size()
+		{
+			return this.versions.length;
+		}
+
+		@Override
+		public Comparator<? super Version> comparator()
+		{
+			return this.comparator;
+		}
+
+		@Override
+		public Version first()
+		{
+			return this.versions[0];
+		}
+
+		@Override
+		public Version last()
+		{
+			return this.versions[this.versions.length - 1];
+		}
+
+		@Override
+		public SortedSet<Version> subSet(Version fromElement, Version toElement)
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public SortedSet<Version> headSet(Version toElement)
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public SortedSet<Version> tailSet(Version fromElement)
+		{
+			throw new UnsupportedOperationException();
 		}
 	}
 }
@@ -27,10 +27,16 @@ package dev.galacticraft.gradle.commons.versionv2;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.util.*;
 
+import dev.galacticraft.gradle.commons.version.ParseResult;
+import dev.galacticraft.gradle.commons.version.VersionDecoder;
+import dev.galacticraft.gradle.commons.version.VersionEncoder;
+
 public final class Version implements Comparable<Version>, Serializable
 {
     @Serial private static final long serialVersionUID = 724350301765968165L;
@@ -119,31 +125,143 @@ public final class Version implements Comparable<Version>, Serializable
 
     private static final int DECIMAL = 10;
 
+    // receives the reason and offset of a parse failure instead of an exception
+    private static final class ParseFailure
+    {
+        private ParseResult.Error error;
+        private int               offset;
+    }
+
     private static final int EOS     = -1;
     private static final int FAILURE = -2;
 
+    // flags of the binary format, compatible with those of the other version engine
+    private static final int PRE_RELEASE_FLAG = 4;
+    private static final int BUILD_FLAG       = 8;
+
     private final int      major;
     private final int      minor;
     private final int      patch;
     private final String[] preReleaseParts;
     private final String[] buildMetaDataParts;
 
+    // numeric values of the identifiers as returned by isNumeric, so that comparing
+    // identifiers does not have to scan them again. They are transient and
+    // recalculated by readResolve after deserialization
+    private static final int[]     EMPTY_NUMBERS = new int[0];
+    private final transient int[]  preReleaseNumbers;
+    private final transient int[]  buildMetaDataNumbers;
+
     // store hash code once it has been calculated
     private static final int NOT_YET_CALCULATED = 2;
     private static final int HASH_PRIME         = 31;
     private volatile     int hash               = NOT_YET_CALCULATED;
 
+    // store the packed sort key once it has been calculated. The key is transient
+    // so that it is recalculated after deserialization, where it starts out as 0
+    private static final long SORT_KEY_NOT_YET_CALCULATED = 0L;
+    private static final long NO_SORT_KEY                 = -1L;
+    private static final long SORT_KEY_MARKER             = 1L << 62;
+    private static final int  MAJOR_BITS                  = 21;
+    private static final int  MINOR_BITS                  = 20;
+    private static final int  PATCH_BITS                  = 20;
+    private transient volatile long sortKey               = SORT_KEY_NOT_YET_CALCULATED;
+
     private Version(int major, int minor, int patch, String[] preRelease, String[] buildMd)
     {
         checkParams(major, minor, patch);
         this.major              = major;
         this.minor              = minor;
         this.patch              = patch;
-        this.preReleaseParts    = preRelease;
-        this.buildMetaDataParts = buildMd;
+        this.preReleaseParts      = preRelease;
+        this.buildMetaDataParts   = buildMd;
+        this.preReleaseNumbers    = numericValues(preRelease);
+        this.buildMetaDataNumbers = numericValues(buildMd);
+    }
+
+    private static int[] numericValues(String[] parts)
+    {
+        if (parts.length == 0)
+        {
+            return EMPTY_NUMBERS;
+        }
+        final int[] numbers = new int[parts.length];
+        for (int i = 0; i < parts.length; ++i)
+        {
+            numbers[i] = isNumeric(parts[i]);
+        }
+        return numbers;
+    }
+
+    @Serial
+    private Object readResolve()
+    {
+        // restores the transient identifier values
+        return new Version(this.major, this.minor, this.patch, this.preReleaseParts, this.buildMetaDataParts);
+    }
+
+    /**
+     * Writes this version in the compact binary format: a byte of flags, the version
+     * numbers as variable-length integers and the pre-release and build metadata parts as
+     * references to the string table of the encoder.
+     *
+     * @param out The encoder to write to.
+     * @throws IOException If writing fails.
+     * @see #readFrom(VersionDecoder)
+     */
+    public void writeTo(VersionEncoder out) throws IOException
+    {
+        final int flags = (this.preReleaseParts.length > 0 ? PRE_RELEASE_FLAG : 0)
+                | (this.buildMetaDataParts.length > 0 ? BUILD_FLAG : 0);
+        out.writeByte(flags);
+        out.writeVarInt(this.major);
+        out.writeVarInt(this.minor);
+        out.writeVarInt(this.patch);
+        if (this.preReleaseParts.length > 0)
+        {
+            out.writeIdentifiers(this.preReleaseParts);
+        }
+        if (this.buildMetaDataParts.length > 0)
+        {
+            out.writeIdentifiers(this.buildMetaDataParts);
+        }
+    }
+
+    /**
+     * Reads a version written by {@link #writeTo(VersionEncoder)}. The parts are taken from
+     * the string table of the decoder, so no version string is parsed.
+     *
+     * @param in The decoder to read from.
+     * @return The version read.
+     * @throws IOException If reading fails.
+     * @throws StreamCorruptedException If the stream holds no valid version.
+     */
+    public static Version readFrom(VersionDecoder in) throws IOException
+    {
+        final int flags = in.readByte();
+        if ((flags & ~(PRE_RELEASE_FLAG | BUILD_FLAG)) != 0)
+        {
+            throw new StreamCorruptedException("Unknown version flags " + flags);
+        }
+        final int      major      = in.readVarInt();
+        final int      minor      = in.readVarInt();
+        final int      patch      = in.readVarInt();
+        final String[] preRelease = (flags & PRE_RELEASE_FLAG) != 0 ? readParts(in) : EMPTY_ARRAY;
+        final String[] buildMd    = (flags & BUILD_FLAG) != 0 ? readParts(in) : EMPTY_ARRAY;
+        return new Version(major, minor, patch, preRelease, buildMd);
     }
 
-    private static Version parse(String s, boolean verifyOnly)
+    private static String[] readParts(VersionDecoder in) throws IOException
+    {
+        final String[] parts = in.readIdentifiers();
+        if (parts.length == 0)
+        {
+            throw new StreamCorruptedException("Version part without identifiers");
+        }
+        return parts;
+    }
+
+    private static Version parse(String s, boolean verifyOnly, ParseFailure failure)
     {
         /*
          * Since 1.1.0:
@@ -154,12 +272,17 @@ public final class Version implements Comparable<Version>, Serializable
          * extremely high to ensure correctness.
          */
 
+        // failures are only thrown when neither verifying nor recording them
+        final boolean quiet = verifyOnly || failure != null;
+
         // note: getting the char array once is faster than calling charAt multiple times
         final char[] stream = s.toCharArray();
         int          major  = 0;
         int          minor  = 0;
         int          patch  = 0;
         int          state  = STATE_MAJOR_INIT;
+        // offset of the version number being read, reported when it overflows
+        int          start  = 0;
 
         List<String> preRelease = null;
         List<String> buildMd    = null;
@@ -173,6 +296,7 @@ public final class Version implements Comparable<Version>, Serializable
 
                 // Parse major part
                 case STATE_MAJOR_INIT:
+                    start = i;
                     if (c == '0')
                     {
                         state = STATE_MAJOR_LEADING_ZERO;
@@ -180,9 +304,9 @@ public final class Version implements Comparable<Version>, Serializable
                     {
                         major = major * DECIMAL + Character.digit(c, DECIMAL);
                         state = STATE_MAJOR_DEFAULT;
-                    } else if (verifyOnly)
+                    } else if (quiet)
                     {
-                        return null;
+                        return reject(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                     } else
                     {
                         throw unexpectedChar(s, c);
@@ -195,14 +319,14 @@ public final class Version implements Comparable<Version>, Serializable
                         state = STATE_MINOR_INIT;
                     } else if (c >= '0' && c <= '9')
                     {
-                        if (verifyOnly)
+                        if (quiet)
                         {
-                            return null;
+                            return reject(failure, ParseResult.Error.LEADING_ZERO, i - 1);
                         }
                         throw illegalLeadingChar(s, "major");
-                    } else if (verifyOnly)
+                    } else if (quiet)
                     {
-                        return null;
+                        return reject(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                     } else
                     {
                         throw unexpectedChar(s, c);
@@ -211,19 +335,28 @@ public final class Version implements Comparable<Version>, Serializable
                 case STATE_MAJOR_DEFAULT:
                     if (c >= '0' && c <= '9')
                     {
-                        major = major * DECIMAL + Character.digit(c, DECIMAL);
+                        major = appendDigit(major, c);
+                        if (major == FAILURE)
+                        {
+                            if (quiet)
+                            {
+                                return reject(failure, ParseResult.Error.NUMBER_OVERFLOW, start);
+                            }
+                            throw numberOverflow(s, "major");
+                        }
                     } else if (c == '.')
                     {
                         state = STATE_MINOR_INIT;
-                    } else if (verifyOnly)
+                    } else if (quiet)
                     {
-                        return null;
+                        return reject(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                     } else
                         throw unexpectedChar(s, c);
                     break;
 
                 // parse minor part
                 case STATE_MINOR_INIT:
+                    start = i;
                     if (c == '0')
                     {
                         state = STATE_MINOR_LEADING_ZERO;
@@ -231,9 +364,9 @@ public final class Version implements Comparable<Version>, Serializable
                     {
                         minor = minor * DECIMAL + Character.digit(c, DECIMAL);
                         state = STATE_MINOR_DEFAULT;
-                    } else if (verifyOnly)
+                    } else if (quiet)
                     {
-                        return null;
+                        return reject(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                     } else
                     {
                         throw unexpectedChar(s, c);
@@ -246,14 +379,14 @@ public final class Version implements Comparable<Version>, Serializable
                         state = STATE_PATCH_INIT;
                     } else if (c >= '0' && c <= '9')
                     {
-                        if (verifyOnly)
+                        if (quiet)
                         {
-                            return null;
+                            return reject(failure, ParseResult.Error.LEADING_ZERO, i - 1);
                         }
                         throw illegalLeadingChar(s, "minor");
-                    } else if (verifyOnly)
+                    } else if (quiet)
                     {
-                        return null;
+                        return reject(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                     } else
                     {
                         throw unexpectedChar(s, c);
@@ -262,13 +395,21 @@ public final class Version implements Comparable<Version>, Serializable
                 case STATE_MINOR_DEFAULT:
                     if (c >= '0' && c <= '9')
                     {
-                        minor = minor * DECIMAL + Character.digit(c, DECIMAL);
+                        minor = appendDigit(minor, c);
+                        if (minor == FAILURE)
+                        {
+                            if (quiet)
+                            {
+                                return reject(failure, ParseResult.Error.NUMBER_OVERFLOW, start);
+                            }
+                            throw numberOverflow(s, "minor");
+                        }
                     } else if (c == '.')
                     {
                         state = STATE_PATCH_INIT;
-                    } else if (verifyOnly)
+                    } else if (quiet)
                     {
-                        return null;
+                        return reject(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                     } else
                     {
                         throw unexpectedChar(s, c);
@@ -277,6 +418,7 @@ public final class Version implements Comparable<Version>, Serializable
 
                 // parse patch part
                 case STATE_PATCH_INIT:
+                    start = i;
                     if (c == '0')
                     {
                         state = STATE_PATCH_LEADING_ZERO;
@@ -284,9 +426,9 @@ public final class Version implements Comparable<Version>, Serializable
                     {
                         patch = patch * DECIMAL + Character.digit(c, DECIMAL);
                         state = STATE_PATCH_DEFAULT;
-                    } else if (verifyOnly)
+                    } else if (quiet)
                     {
-                        return null;
+                        return reject(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                     } else
                     {
                         throw unexpectedChar(s, c);
@@ -305,14 +447,14 @@ public final class Version implements Comparable<Version>, Serializable
                         break loop;
                     } else if (c >= '0' && c <= '9')
                     {
-                        if (verifyOnly)
+                        if (quiet)
                         {
-                            return null;
+                            return reject(failure, ParseResult.Error.LEADING_ZERO, i - 1);
                         }
                         throw illegalLeadingChar(s, "patch");
-                    } else if (verifyOnly)
+                    } else if (quiet)
                     {
-                        return null;
+                        return reject(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                     } else
                     {
                         throw unexpectedChar(s, c);
@@ -321,7 +463,15 @@ public final class Version implements Comparable<Version>, Serializable
                 case STATE_PATCH_DEFAULT:
                     if (c >= '0' && c <= '9')
                     {
-                        patch = patch * DECIMAL + Character.digit(c, DECIMAL);
+                        patch = appendDigit(patch, c);
+                        if (patch == FAILURE)
+                        {
+                            if (quiet)
+                            {
+                                return reject(failure, ParseResult.Error.NUMBER_OVERFLOW, start);
+                            }
+                            throw numberOverflow(s, "patch");
+                        }
                     } else if (c == '-')
                     {
                         state = STATE_PRERELEASE_INIT;
@@ -331,9 +481,9 @@ public final class Version implements Comparable<Version>, Serializable
                     } else if (c != EOS)
                     {
                         // eos is allowed here
-                        if (verifyOnly)
+                        if (quiet)
                         {
-                            return null;
+                            return reject(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                         }
                         throw unexpectedChar(s, c);
                     }
@@ -341,10 +491,10 @@ public final class Version implements Comparable<Version>, Serializable
                 case STATE_PRERELEASE_INIT:
 
                     preRelease = verifyOnly ? null : new ArrayList<>();
-                    i = parseID(stream, s, i, verifyOnly, false, true, preRelease, "pre-release");
+                    i = parseID(stream, s, i, verifyOnly, failure, false, true, preRelease, "pre-release");
                     if (i == FAILURE)
                     {
-                        // implies verifyOnly == true, otherwise exception would have been
+                        // implies quiet == true, otherwise exception would have been
                         // thrown
                         return null;
                     }
@@ -361,10 +511,10 @@ public final class Version implements Comparable<Version>, Serializable
 
                 case STATE_BUILDMD_INIT:
                     buildMd = verifyOnly ? null : new ArrayList<>();
-                    i = parseID(stream, s, i, verifyOnly, true, false, buildMd, "build-meta-data");
+                    i = parseID(stream, s, i, verifyOnly, failure, true, false, buildMd, "build-meta-data");
                     if (i == FAILURE)
                     {
-                        // implies verifyOnly == true, otherwise exception would have been
+                        // implies quiet == true, otherwise exception would have been
                         // thrown
                         return null;
                     }
@@ -379,7 +529,7 @@ public final class Version implements Comparable<Version>, Serializable
         return new Version(major, minor, patch, prerelease, buildmetadata);
     }
 
-    private static int parseID(char[] stream, String full, int start, boolean verifyOnly, boolean allowLeading0, boolean preRelease, List<String> parts, String partName)
+    private static int parseID(char[] stream, String full, int start, boolean verifyOnly, ParseFailure failure, boolean allowLeading0, boolean preRelease, List<String> parts, String partName)
     {
 
         assert verifyOnly || parts != null;
@@ -390,10 +540,10 @@ public final class Version implements Comparable<Version>, Serializable
         while (i <= stream.length)
         {
 
-            i = parseIDPart(stream, full, i, verifyOnly, allowLeading0, preRelease, true, b, partName);
+            i = parseIDPart(stream, full, i, verifyOnly, failure, allowLeading0, preRelease, true, b, partName);
             if (i == FAILURE)
             {
-                // implies verifyOnly == true, otherwise exception would have been thrown
+                // implies quiet mode, otherwise exception would have been thrown
                 return FAILURE;
             } else if (!verifyOnly)
             {
@@ -414,8 +564,9 @@ public final class Version implements Comparable<Version>, Serializable
         throw new IllegalStateException();
     }
 
-    private static int parseIDPart(char[] stream, String full, int start, boolean verifyOnly, boolean allowLeading0, boolean preRelease, boolean allowDot, StringBuilder b, String partName) throws VersionFormatException
+    private static int parseIDPart(char[] stream, String full, int start, boolean verifyOnly, ParseFailure failure, boolean allowLeading0, boolean preRelease, boolean allowDot, StringBuilder b, String partName) throws VersionFormatException
     {
+        final boolean quiet = verifyOnly || failure != null;
 
         if (b != null)
         {
@@ -447,16 +598,16 @@ public final class Version implements Comparable<Version>, Serializable
                         state = STATE_PART_DEFAULT;
                     } else if (c == '.')
                     {
-                        if (verifyOnly)
+                        if (quiet)
                         {
-                            return FAILURE;
+                            return rejectPart(failure, ParseResult.Error.EMPTY_IDENTIFIER, i);
                         }
                         throw unexpectedChar(full, -1);
                     } else
                     {
-                        if (verifyOnly)
+                        if (quiet)
                         {
-                            return FAILURE;
+                            return rejectPart(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                         }
                         throw unexpectedChar(full, c);
                     }
@@ -485,9 +636,9 @@ public final class Version implements Comparable<Version>, Serializable
 
                         // here, this part consist of a single '0'
                         return i;
-                    } else if (verifyOnly)
+                    } else if (quiet)
                     {
-                        return FAILURE;
+                        return rejectPart(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                     } else
                     {
                         throw unexpectedChar(full, c);
@@ -515,14 +666,14 @@ public final class Version implements Comparable<Version>, Serializable
                         // if we are parsing a pre-release part it can be terminated by a
                         // '+' in case a build metadata follows
 
-                        if (verifyOnly)
+                        if (quiet)
                         {
-                            return FAILURE;
+                            return rejectPart(failure, ParseResult.Error.LEADING_ZERO, start);
                         }
                         throw illegalLeadingChar(full, partName);
-                    } else if (verifyOnly)
+                    } else if (quiet)
                     {
-                        return FAILURE;
+                        return rejectPart(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                     } else
                     {
                         throw unexpectedChar(full, c);
@@ -541,9 +692,9 @@ public final class Version implements Comparable<Version>, Serializable
                         // if we are parsing a pre-release part it can be terminated by a
                         // '+' in case a build metadata follows
                         return i;
-                    } else if (verifyOnly)
+                    } else if (quiet)
                     {
-                        return FAILURE;
+                        return rejectPart(failure, ParseResult.Error.UNEXPECTED_CHARACTER, i);
                     } else
                     {
                         throw unexpectedChar(full, c);
@@ -556,6 +707,43 @@ public final class Version implements Comparable<Version>, Serializable
         throw new IllegalStateException();
     }
 
+    private static Version reject(ParseFailure failure, ParseResult.Error error, int offset)
+    {
+        if (failure != null)
+        {
+            failure.error  = error;
+            failure.offset = offset;
+        }
+        return null;
+    }
+
+    private static int rejectPart(ParseFailure failure, ParseResult.Error error, int offset)
+    {
+        reject(failure, error, offset);
+        return FAILURE;
+    }
+
+    /**
+     * Appends the decimal digit to the version number, checking the bound
+     * before multiplying so that no number can wrap around.
+     *
+     * @return the new number or {@code FAILURE} if it exceeds {@code Integer.MAX_VALUE}
+     */
+    private static int appendDigit(int number, int c)
+    {
+        final int digit = c - '0';
+        if (number > (Integer.MAX_VALUE - digit) / DECIMAL)
+        {
+            return FAILURE;
+        }
+        return number * DECIMAL + digit;
+    }
+
+    private static VersionFormatException numberOverflow(String v, String part)
+    {
+        return new VersionFormatException(String.format("Number too large in %s part of %s", part, v));
+    }
+
     private static VersionFormatException illegalLeadingChar(String v, String part)
     {
         return new VersionFormatException(String.format("Illegal leading char '%c' in %s part of %s", (int) '0', part, v));
@@ -731,7 +919,7 @@ public final class Version implements Comparable<Version>, Serializable
 
             // note: pass "pre-release" because this string will not be used when parsing
             // build-meta-data
-            parseIDPart(part.toCharArray(), part, 0, false, false, false, false, null, "pre-release");
+            parseIDPart(part.toCharArray(), part, 0, false, null, false, false, false, null, "pre-release");
         }
         return result;
     }
@@ -1054,7 +1242,7 @@ public final class Version implements Comparable<Version>, Serializable
      */
     public static boolean isValidVersion(String version)
     {
-        return version != null && !version.isEmpty() && parse(version, true) != null;
+        return version != null && !version.isEmpty() && parse(version, true, null) != null;
     }
 
     /**
@@ -1081,7 +1269,7 @@ public final class Version implements Comparable<Version>, Serializable
             return true;
         }
 
-        return parseID(preRelease.toCharArray(), preRelease, 0, true, false, false, null, "") != FAILURE;
+        return parseID(preRelease.toCharArray(), preRelease, 0, true, null, false, false, null, "") != FAILURE;
     }
 
     /**
@@ -1109,7 +1297,7 @@ public final class Version implements Comparable<Version>, Serializable
             return true;
         }
 
-        return parseID(buildMetaData.toCharArray(), buildMetaData, 0, true, true, false, null, "") != FAILURE;
+        return parseID(buildMetaData.toCharArray(), buildMetaData, 0, true, null, true, false, null, "") != FAILURE;
     }
 
     /**
@@ -1234,6 +1422,22 @@ public final class Version implements Comparable<Version>, Serializable
         int result = 0;
         if (v1 != v2)
         {
+            final long k1 = v1.sortKey();
+            final long k2 = v2.sortKey();
+            if (k1 != NO_SORT_KEY && k2 != NO_SORT_KEY)
+            {
+                if (k1 != k2)
+                {
+                    return Long.compare(k1, k2);
+                }
+                // equal version cores and pre-release presence, compare the identifiers
+                final int pr;
+                if ((pr = comparePreRelease(v1, v2)) != 0)
+                {
+                    return pr;
+                }
+                return withBuildMetaData ? compareBuildMetaData(v1, v2) : 0;
+            }
             final int mc, mm, mp, pr, md;
             if ((mc = compareInt(v1.major, v2.major)) != 0)
             {
@@ -1255,6 +1459,34 @@ public final class Version implements Comparable<Version>, Serializable
         return result;
     }
 
+    /**
+     * Packs major, minor and patch and whether this is a release into a long which
+     * orders like {@link #compareTo(Version)} as long as two keys differ. Versions with
+     * a number too large for its bits have no key and are compared field by field.
+     *
+     * @return The packed sort key, or {@link #NO_SORT_KEY} if the numbers do not fit.
+     */
+    private long sortKey()
+    {
+        long key = this.sortKey;
+        if (key == SORT_KEY_NOT_YET_CALCULATED)
+        {
+            if (this.major >>> MAJOR_BITS != 0 || this.minor >>> MINOR_BITS != 0 || this.patch >>> PATCH_BITS != 0)
+            {
+                key = NO_SORT_KEY;
+            } else
+            {
+                key = SORT_KEY_MARKER
+                        | (long) this.major << (MINOR_BITS + PATCH_BITS + 1)
+                        | (long) this.minor << (PATCH_BITS + 1)
+                        | (long) this.patch << 1
+                        | (this.preReleaseParts.length == 0 ? 1L : 0L);
+            }
+            this.sortKey = key;
+        }
+        return key;
+    }
+
     private static int compareInt(int a, int b)
     {
         return a - b;
@@ -1262,21 +1494,21 @@ public final class Version implements Comparable<Version>, Serializable
 
     private static int comparePreRelease(Version v1, Version v2)
     {
-        return compareLiterals(v1.preReleaseParts, v2.preReleaseParts);
+        return compareLiterals(v1.preReleaseParts, v1.preReleaseNumbers, v2.preReleaseParts, v2.preReleaseNumbers);
     }
 
     private static int compareBuildMetaData(Version v1, Version v2)
     {
-        return compareLiterals(v1.buildMetaDataParts, v2.buildMetaDataParts);
+        return compareLiterals(v1.buildMetaDataParts, v1.buildMetaDataNumbers, v2.buildMetaDataParts, v2.buildMetaDataNumbers);
     }
 
-    private static int compareLiterals(String[] v1Literal, String[] v2Literal)
+    private static int compareLiterals(String[] v1Literal, int[] v1Numbers, String[] v2Literal, int[] v2Numbers)
     {
         final int result;
         if (v1Literal.length > 0 && v2Literal.length > 0)
         {
             // compare pre-release parts
-            result = compareIdentifiers(v1Literal, v2Literal);
+            result = compareIdentifiers(v1Literal, v1Numbers, v2Literal, v2Numbers);
         } else if (v1Literal.length > 0)
         {
             // other is greater, because it is no pre-release
@@ -1292,12 +1524,12 @@ public final class Version implements Comparable<Version>, Serializable
         return result;
     }
 
-    private static int compareIdentifiers(String[] parts1, String[] parts2)
+    private static int compareIdentifiers(String[] parts1, int[] numbers1, String[] parts2, int[] numbers2)
     {
         final int min = Math.min(parts1.length, parts2.length);
         for (int i = 0; i < min; ++i)
         {
-            final int r = compareIdentifierParts(parts1[i], parts2[i]);
+            final int r = compareIdentifierParts(parts1[i], numbers1[i], parts2[i], numbers2[i]);
             if (r != 0)
             {
                 // versions differ in part i
@@ -1309,11 +1541,8 @@ public final class Version implements Comparable<Version>, Serializable
         return compareInt(parts1.length, parts2.length);
     }
 
-    private static int compareIdentifierParts(String p1, String p2)
+    private static int compareIdentifierParts(String p1, int num1, String p2, int num2)
     {
-        final int num1 = isNumeric(p1);
-        final int num2 = isNumeric(p2);
-
         final int result;
         if (num1 < 0 && num2 < 0)
         {
@@ -1344,14 +1573,14 @@ public final class Version implements Comparable<Version>, Serializable
      */
     private static int isNumeric(String s)
     {
-        final char[] chars = s.toCharArray();
-        int          num   = 0;
+        int num = 0;
 
         // note: this method does not account for leading zeroes as could occur in build
         // metadata parts. Leading zeroes are thus simply ignored when parsing the
         // number.
-        for (final char c : chars)
+        for (int i = 0; i < s.length(); ++i)
         {
+            final char c = s.charAt(i);
             if (c >= '0' && c <= '9')
             {
                 num = num * DECIMAL + Character.digit(c, DECIMAL);
@@ -1368,7 +1597,7 @@ public final class Version implements Comparable<Version>, Serializable
         if (preRelease != null && !preRelease.isEmpty())
         {
             final List<String> parts = new ArrayList<>();
-            parseID(preRelease.toCharArray(), preRelease, 0, false, false, false, parts, "pre-release");
+            parseID(preRelease.toCharArray(), preRelease, 0, false, null, false, false, parts, "pre-release");
             return parts.toArray(new String[0]);
         }
         return EMPTY_ARRAY;
@@ -1379,7 +1608,7 @@ public final class Version implements Comparable<Version>, Serializable
         if (buildMetaData != null && !buildMetaData.isEmpty())
         {
             final List<String> parts = new ArrayList<>();
-            parseID(buildMetaData.toCharArray(), buildMetaData, 0, false, true, false, parts, "build-meta-data");
+            parseID(buildMetaData.toCharArray(), buildMetaData, 0, false, null, true, false, parts, "build-meta-data");
             return parts.toArray(new String[0]);
         }
         return EMPTY_ARRAY;
@@ -1481,6 +1710,69 @@ public final class Version implements Comparable<Version>, Serializable
         return new Version(major, 0, 0, EMPTY_ARRAY, EMPTY_ARRAY);
     }
 
+    /**
+     * Creates a new Version from the provided components, where the pre-release and
+     * build metadata are given as their already separated identifier parts. This skips
+     * joining the parts and parsing them again, which makes it the cheap way to convert
+     * versions of another representation. Either array may be empty, in which case the
+     * created {@code Version} will have no pre-release resp. build metadata field. The
+     * arrays are copied.
+     *
+     * @param major The major version.
+     * @param minor The minor version.
+     * @param patch The patch version.
+     * @param preReleaseParts The pre-release identifiers.
+     * @param buildMetaDataParts The build metadata identifiers.
+     * @return The version instance.
+     * @throws VersionFormatException If an identifier does not conform to the semantic
+     *             version specification.
+     * @throws IllegalArgumentException If an array or an identifier is null.
+     */
+    public static Version createFromParts(int major, int minor, int patch, String[] preReleaseParts, String[] buildMetaDataParts)
+    {
+        require(preReleaseParts != null, "preReleaseParts is null");
+        require(buildMetaDataParts != null, "buildMetaDataParts is null");
+        return new Version(major, minor, patch, copyParts(preReleaseParts, true), copyParts(buildMetaDataParts, false));
+    }
+
+    private static String[] copyParts(String[] parts, boolean preRelease)
+    {
+        if (parts.length == 0)
+        {
+            return EMPTY_ARRAY;
+        }
+        final String[] result = new String[parts.length];
+        for (int i = 0; i < parts.length; ++i)
+        {
+            final String part = parts[i];
+            require(part != null, "version part is null");
+            if (part.isEmpty())
+            {
+                throw unexpectedChar(join(parts), EOS);
+            }
+            boolean numeric = true;
+            for (int j = 0; j < part.length(); ++j)
+            {
+                final char c = part.charAt(j);
+                if (c >= '0' && c <= '9')
+                {
+                    continue;
+                }
+                numeric = false;
+                if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '-'))
+                {
+                    throw unexpectedChar(join(parts), c);
+                }
+            }
+            if (preRelease && numeric && part.length() > 1 && part.charAt(0) == '0')
+            {
+                throw illegalLeadingChar(join(parts), "pre-release");
+            }
+            result[i] = part;
+        }
+        return result;
+    }
+
     private static void checkParams(int major, int minor, int patch)
     {
         require(major >= 0, "major < 0");
@@ -1509,7 +1801,27 @@ public final class Version implements Comparable<Version>, Serializable
     public static Version parseVersion(String versionString)
     {
         require(versionString != null, "versionString is null");
-        return parse(versionString, false);
+        return parse(versionString, false, null);
+    }
+
+    /**
+     * Tries to parse the provided String as a semantic version without throwing an
+     * exception if it does not conform to the semantic version specification. This is
+     * much cheaper than catching a {@link VersionFormatException} when many Strings
+     * are expected to be invalid.
+     *
+     * @param versionString The String to parse.
+     * @return The parsed version, or the reason and offset of the failure.
+     */
+    public static ParseResult<Version> tryParseVersion(String versionString)
+    {
+        if (versionString == null || versionString.isEmpty())
+        {
+            return ParseResult.failure(ParseResult.Error.EMPTY_INPUT, 0);
+        }
+        final ParseFailure failure = new ParseFailure();
+        final Version      version = parse(versionString, false, failure);
+        return version != null ? ParseResult.success(version) : ParseResult.failure(failure.error, failure.offset);
     }
 
     /**
@@ -28,10 +28,14 @@ package dev.galacticraft.gradle.commons.xml;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.codehaus.plexus.util.ReaderFactory;
 import org.codehaus.plexus.util.xml.pull.EntityReplacementMap;
@@ -39,6 +43,7 @@ import org.codehaus.plexus.util.xml.pull.MXParser;
 import org.codehaus.plexus.util.xml.pull.XmlPullParser;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
+import dev.galacticraft.gradle.commons.version.list.VersionIndex;
 import dev.galacticraft.gradle.commons.xml.metadata.Metadata;
 import dev.galacticraft.gradle.commons.xml.metadata.Plugin;
 import dev.galacticraft.gradle.commons.xml.metadata.Snapshot;
@@ -48,8 +53,15 @@ import dev.galacticraft.gradle.commons.xml.metadata.Versioning;
 @SuppressWarnings("deprecation")
 public class MetadataReader
 {
+    private static final Set<Field> ALL_FIELDS = EnumSet.allOf(Field.class);
+
+    static final Set<Field> VERSIONING_FIELDS = EnumSet.of(Field.LATEST, Field.RELEASE, Field.VERSIONS,
+        Field.LAST_UPDATED, Field.SNAPSHOT, Field.SNAPSHOT_VERSIONS);
+
     private boolean addDefaultEntities = true;
 
+    private boolean reuseParser = true;
+
     public final ContentTransformer contentTransformer;
 
     public MetadataReader()
@@ -68,16 +80,13 @@ public class MetadataReader
         this.contentTransformer = contentTransformer;
     }
 
-    private boolean checkFieldWithDuplicate(XmlPullParser parser, String tagName, String alias, Set<String> parsed)
+    private long checkDuplicate(XmlPullParser parser, String tagName, long parsed, int field)
         throws XmlPullParserException
     {
-        if (!(parser.getName().equals(tagName) || parser.getName().equals(alias))) {
-            return false;
-        }
-        if (!parsed.add(tagName)) {
+        if ((parsed & (1L << field)) != 0) {
             throw new XmlPullParserException("Duplicated tag: '" + tagName + "'", parser, null);
         }
-        return true;
+        return parsed | (1L << field);
     }
 
     private void checkUnknownAttribute(XmlPullParser parser, String attribute, String tagName, boolean strict)
@@ -96,6 +105,11 @@ public class MetadataReader
             throw new XmlPullParserException("Unrecognised tag: '" + parser.getName() + "'", parser, null);
         }
 
+        skipElement(parser);
+    }
+
+    private void skipElement(XmlPullParser parser) throws XmlPullParserException, IOException
+    {
         for (int unrecognizedTagCount = 1; unrecognizedTagCount > 0;) {
             int eventType = parser.next();
             if (eventType == XmlPullParser.START_TAG) {
@@ -106,11 +120,29 @@ public class MetadataReader
         }
     }
 
+    /**
+     * Checks if the field is projected, and skips the current element without reading its content if it is not.
+     */
+    private boolean project(XmlPullParser parser, Set<Field> fields, Field field)
+        throws XmlPullParserException, IOException
+    {
+        if (fields.contains(field)) {
+            return true;
+        }
+        skipElement(parser);
+        return false;
+    }
+
     public boolean getAddDefaultEntities()
     {
         return addDefaultEntities;
     }
 
+    public boolean getReuseParser()
+    {
+        return reuseParser;
+    }
+
     private boolean getBooleanValue(String s, String attribute, XmlPullParser parser, String defaultValue)
         throws XmlPullParserException
     {
@@ -167,12 +199,76 @@ public class MetadataReader
 
     public Metadata read(Reader reader, boolean strict) throws IOException, XmlPullParserException
     {
-        XmlPullParser parser =
-            addDefaultEntities ? new MXParser(EntityReplacementMap.defaultEntityReplacementMap) : new MXParser();
+        return read(reader, strict, ALL_FIELDS, null);
+    }
 
-        parser.setInput(reader);
+    /**
+     * Reads only the projected fields of the metadata. The elements of all other fields are skipped by the pull
+     * parser without building their objects, so they stay unset in the returned metadata. The versioning is only
+     * read if one of its fields is projected.
+     *
+     * @param versions receives each version of the {@code versions} field instead of the list of the versioning if
+     *        not {@code null}
+     */
+    public Metadata read(Reader reader, boolean strict, Set<Field> fields, Consumer<String> versions)
+        throws IOException, XmlPullParserException
+    {
+        MXParser parser = reuseParser ? ParserPool.acquire(addDefaultEntities)
+            : addDefaultEntities ? new MXParser(EntityReplacementMap.defaultEntityReplacementMap) : new MXParser();
+        try {
+            parser.setInput(reader);
+
+            return read(parser, strict, fields, versions);
+        } finally {
+            if (reuseParser) {
+                ParserPool.release(parser, addDefaultEntities);
+            }
+        }
+    }
+
+    public Metadata read(InputStream in, Set<Field> fields) throws IOException, XmlPullParserException
+    {
+        return read(ReaderFactory.newXmlReader(in), true, fields, null);
+    }
 
-        return read(parser, strict);
+    /**
+     * Streams the versions of the metadata to the consumer in document order, skipping every other field.
+     */
+    public void readVersions(InputStream in, Consumer<String> versions) throws IOException, XmlPullParserException
+    {
+        read(ReaderFactory.newXmlReader(in), true, EnumSet.of(Field.VERSIONS), versions);
+    }
+
+    /**
+     * Reads only the versions of the metadata into an index, skipping strings which are no valid versions.
+     */
+    public VersionIndex readVersionIndex(InputStream in) throws IOException, XmlPullParserException
+    {
+        List<String> versions = new ArrayList<String>();
+        readVersions(in, versions::add);
+        return VersionIndex.parse(versions);
+    }
+
+    /**
+     * Reads the metadata from a file. The bytes of the file are scanned directly for the elements of the metadata,
+     * without decoding them through a reader or running the pull parser. Files in any other form than the plain one
+     * repositories generate, like ones with references or non-ASCII content, are read with the pull parser instead,
+     * which also reports the errors of invalid documents.
+     */
+    public Metadata read(Path file, Set<Field> fields) throws IOException, XmlPullParserException
+    {
+        Metadata metadata = MetadataScanner.scan(MetadataScanner.load(file), fields, contentTransformer);
+        if (metadata != null) {
+            return metadata;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in, fields);
+        }
+    }
+
+    public Metadata read(Path file) throws IOException, XmlPullParserException
+    {
+        return read(file, ALL_FIELDS);
     }
 
     public Metadata read(Reader reader) throws IOException, XmlPullParserException
@@ -190,7 +286,8 @@ public class MetadataReader
         return read(ReaderFactory.newXmlReader(in));
     }
 
-    private Metadata parseMetadata(XmlPullParser parser, boolean strict) throws IOException, XmlPullParserException
+    private Metadata parseMetadata(XmlPullParser parser, boolean strict, Set<Field> fields, Consumer<String> versions)
+        throws IOException, XmlPullParserException
     {
         String tagName = parser.getName();
         Metadata metadata = new Metadata();
@@ -208,28 +305,51 @@ public class MetadataReader
                 checkUnknownAttribute(parser, name, tagName, strict);
             }
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == XmlPullParser.START_TAG) {
-            if (checkFieldWithDuplicate(parser, "groupId", null, parsed)) {
-                metadata.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
-            } else if (checkFieldWithDuplicate(parser, "artifactId", null, parsed)) {
-                metadata.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
-            } else if (checkFieldWithDuplicate(parser, "versioning", null, parsed)) {
-                metadata.setVersioning(parseVersioning(parser, strict));
-            } else if (checkFieldWithDuplicate(parser, "version", null, parsed)) {
-                metadata.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
-            } else if (checkFieldWithDuplicate(parser, "plugins", null, parsed)) {
-                List<Plugin> plugins = new ArrayList<Plugin>();
-                metadata.setPlugins(plugins);
-                while (parser.nextTag() == XmlPullParser.START_TAG) {
-                    if ("plugin".equals(parser.getName())) {
-                        plugins.add(parsePlugin(parser, strict));
+            switch (parser.getName()) {
+                case "groupId":
+                    parsed = checkDuplicate(parser, "groupId", parsed, 0);
+                    if (project(parser, fields, Field.GROUP_ID)) {
+                        metadata.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
+                    }
+                    break;
+                case "artifactId":
+                    parsed = checkDuplicate(parser, "artifactId", parsed, 1);
+                    if (project(parser, fields, Field.ARTIFACT_ID)) {
+                        metadata.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
+                    }
+                    break;
+                case "versioning":
+                    parsed = checkDuplicate(parser, "versioning", parsed, 2);
+                    if (!Collections.disjoint(fields, VERSIONING_FIELDS)) {
+                        metadata.setVersioning(parseVersioning(parser, strict, fields, versions));
                     } else {
-                        checkUnknownElement(parser, strict);
+                        skipElement(parser);
                     }
-                }
-            } else {
-                checkUnknownElement(parser, strict);
+                    break;
+                case "version":
+                    parsed = checkDuplicate(parser, "version", parsed, 3);
+                    if (project(parser, fields, Field.VERSION)) {
+                        metadata.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
+                    }
+                    break;
+                case "plugins":
+                    parsed = checkDuplicate(parser, "plugins", parsed, 4);
+                    if (project(parser, fields, Field.PLUGINS)) {
+                        List<Plugin> plugins = new ArrayList<Plugin>();
+                        metadata.setPlugins(plugins);
+                        while (parser.nextTag() == XmlPullParser.START_TAG) {
+                            if ("plugin".equals(parser.getName())) {
+                                plugins.add(parsePlugin(parser, strict));
+                            } else {
+                                checkUnknownElement(parser, strict);
+                            }
+                        }
+                    }
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
         }
         return metadata;
@@ -248,16 +368,23 @@ public class MetadataReader
                 checkUnknownAttribute(parser, name, tagName, strict);
             }
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == XmlPullParser.START_TAG) {
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                plugin.setName(interpolatedTrimmed(parser.nextText(), "name"));
-            } else if (checkFieldWithDuplicate(parser, "prefix", null, parsed)) {
-                plugin.setPrefix(interpolatedTrimmed(parser.nextText(), "prefix"));
-            } else if (checkFieldWithDuplicate(parser, "artifactId", null, parsed)) {
-                plugin.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
-            } else {
-                checkUnknownElement(parser, strict);
+            switch (parser.getName()) {
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 0);
+                    plugin.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "prefix":
+                    parsed = checkDuplicate(parser, "prefix", parsed, 1);
+                    plugin.setPrefix(interpolatedTrimmed(parser.nextText(), "prefix"));
+                    break;
+                case "artifactId":
+                    parsed = checkDuplicate(parser, "artifactId", parsed, 2);
+                    plugin.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
         }
         return plugin;
@@ -276,18 +403,25 @@ public class MetadataReader
                 checkUnknownAttribute(parser, name, tagName, strict);
             }
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == XmlPullParser.START_TAG) {
-            if (checkFieldWithDuplicate(parser, "timestamp", null, parsed)) {
-                snapshot.setTimestamp(interpolatedTrimmed(parser.nextText(), "timestamp"));
-            } else if (checkFieldWithDuplicate(parser, "buildNumber", null, parsed)) {
-                snapshot.setBuildNumber(getIntegerValue(interpolatedTrimmed(parser.nextText(), "buildNumber"),
-                    "buildNumber", parser, strict));
-            } else if (checkFieldWithDuplicate(parser, "localCopy", null, parsed)) {
-                snapshot.setLocalCopy(
-                    getBooleanValue(interpolatedTrimmed(parser.nextText(), "localCopy"), "localCopy", parser, "false"));
-            } else {
-                checkUnknownElement(parser, strict);
+            switch (parser.getName()) {
+                case "timestamp":
+                    parsed = checkDuplicate(parser, "timestamp", parsed, 0);
+                    snapshot.setTimestamp(interpolatedTrimmed(parser.nextText(), "timestamp"));
+                    break;
+                case "buildNumber":
+                    parsed = checkDuplicate(parser, "buildNumber", parsed, 1);
+                    snapshot.setBuildNumber(getIntegerValue(interpolatedTrimmed(parser.nextText(), "buildNumber"),
+                        "buildNumber", parser, strict));
+                    break;
+                case "localCopy":
+                    parsed = checkDuplicate(parser, "localCopy", parsed, 2);
+                    snapshot.setLocalCopy(
+                        getBooleanValue(interpolatedTrimmed(parser.nextText(), "localCopy"), "localCopy", parser, "false"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
         }
         return snapshot;
@@ -307,24 +441,34 @@ public class MetadataReader
                 checkUnknownAttribute(parser, name, tagName, strict);
             }
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == XmlPullParser.START_TAG) {
-            if (checkFieldWithDuplicate(parser, "classifier", null, parsed)) {
-                snapshotVersion.setClassifier(interpolatedTrimmed(parser.nextText(), "classifier"));
-            } else if (checkFieldWithDuplicate(parser, "extension", null, parsed)) {
-                snapshotVersion.setExtension(interpolatedTrimmed(parser.nextText(), "extension"));
-            } else if (checkFieldWithDuplicate(parser, "value", null, parsed)) {
-                snapshotVersion.setVersion(interpolatedTrimmed(parser.nextText(), "value"));
-            } else if (checkFieldWithDuplicate(parser, "updated", null, parsed)) {
-                snapshotVersion.setUpdated(interpolatedTrimmed(parser.nextText(), "updated"));
-            } else {
-                checkUnknownElement(parser, strict);
+            switch (parser.getName()) {
+                case "classifier":
+                    parsed = checkDuplicate(parser, "classifier", parsed, 0);
+                    snapshotVersion.setClassifier(interpolatedTrimmed(parser.nextText(), "classifier"));
+                    break;
+                case "extension":
+                    parsed = checkDuplicate(parser, "extension", parsed, 1);
+                    snapshotVersion.setExtension(interpolatedTrimmed(parser.nextText(), "extension"));
+                    break;
+                case "value":
+                    parsed = checkDuplicate(parser, "value", parsed, 2);
+                    snapshotVersion.setVersion(interpolatedTrimmed(parser.nextText(), "value"));
+                    break;
+                case "updated":
+                    parsed = checkDuplicate(parser, "updated", parsed, 3);
+                    snapshotVersion.setUpdated(interpolatedTrimmed(parser.nextText(), "updated"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
         }
         return snapshotVersion;
     }
 
-    private Versioning parseVersioning(XmlPullParser parser, boolean strict) throws IOException, XmlPullParserException
+    private Versioning parseVersioning(XmlPullParser parser, boolean strict, Set<Field> fields, Consumer<String> versions)
+        throws IOException, XmlPullParserException
     {
         String tagName = parser.getName();
         Versioning versioning = new Versioning();
@@ -337,44 +481,74 @@ public class MetadataReader
                 checkUnknownAttribute(parser, name, tagName, strict);
             }
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == XmlPullParser.START_TAG) {
-            if (checkFieldWithDuplicate(parser, "latest", null, parsed)) {
-                versioning.setLatest(interpolatedTrimmed(parser.nextText(), "latest"));
-            } else if (checkFieldWithDuplicate(parser, "release", null, parsed)) {
-                versioning.setRelease(interpolatedTrimmed(parser.nextText(), "release"));
-            } else if (checkFieldWithDuplicate(parser, "versions", null, parsed)) {
-                List<String> versions = new ArrayList<String>();
-                versioning.setVersions(versions);
-                while (parser.nextTag() == XmlPullParser.START_TAG) {
-                    if ("version".equals(parser.getName())) {
-                        versions.add(interpolatedTrimmed(parser.nextText(), "versions"));
-                    } else {
-                        checkUnknownElement(parser, strict);
+            switch (parser.getName()) {
+                case "latest":
+                    parsed = checkDuplicate(parser, "latest", parsed, 0);
+                    if (project(parser, fields, Field.LATEST)) {
+                        versioning.setLatest(interpolatedTrimmed(parser.nextText(), "latest"));
                     }
-                }
-            } else if (checkFieldWithDuplicate(parser, "lastUpdated", null, parsed)) {
-                versioning.setLastUpdated(interpolatedTrimmed(parser.nextText(), "lastUpdated"));
-            } else if (checkFieldWithDuplicate(parser, "snapshot", null, parsed)) {
-                versioning.setSnapshot(parseSnapshot(parser, strict));
-            } else if (checkFieldWithDuplicate(parser, "snapshotVersions", null, parsed)) {
-                List<SnapshotVersion> snapshotVersions = new ArrayList<SnapshotVersion>();
-                versioning.setSnapshotVersions(snapshotVersions);
-                while (parser.nextTag() == XmlPullParser.START_TAG) {
-                    if ("snapshotVersion".equals(parser.getName())) {
-                        snapshotVersions.add(parseSnapshotVersion(parser, strict));
-                    } else {
-                        checkUnknownElement(parser, strict);
+                    break;
+                case "release":
+                    parsed = checkDuplicate(parser, "release", parsed, 1);
+                    if (project(parser, fields, Field.RELEASE)) {
+                        versioning.setRelease(interpolatedTrimmed(parser.nextText(), "release"));
                     }
-                }
-            } else {
-                checkUnknownElement(parser, strict);
+                    break;
+                case "versions":
+                    parsed = checkDuplicate(parser, "versions", parsed, 2);
+                    if (project(parser, fields, Field.VERSIONS)) {
+                        Consumer<String> consumer = versions;
+                        if (consumer == null) {
+                            List<String> list = new ArrayList<String>();
+                            versioning.setVersions(list);
+                            consumer = list::add;
+                        }
+                        while (parser.nextTag() == XmlPullParser.START_TAG) {
+                            if ("version".equals(parser.getName())) {
+                                consumer.accept(interpolatedTrimmed(parser.nextText(), "versions"));
+                            } else {
+                                checkUnknownElement(parser, strict);
+                            }
+                        }
+                    }
+                    break;
+                case "lastUpdated":
+                    parsed = checkDuplicate(parser, "lastUpdated", parsed, 3);
+                    if (project(parser, fields, Field.LAST_UPDATED)) {
+                        versioning.setLastUpdated(interpolatedTrimmed(parser.nextText(), "lastUpdated"));
+                    }
+                    break;
+                case "snapshot":
+                    parsed = checkDuplicate(parser, "snapshot", parsed, 4);
+                    if (project(parser, fields, Field.SNAPSHOT)) {
+                        versioning.setSnapshot(parseSnapshot(parser, strict));
+                    }
+                    break;
+                case "snapshotVersions":
+                    parsed = checkDuplicate(parser, "snapshotVersions", parsed, 5);
+                    if (project(parser, fields, Field.SNAPSHOT_VERSIONS)) {
+                        List<SnapshotVersion> snapshotVersions = new ArrayList<SnapshotVersion>();
+                        versioning.setSnapshotVersions(snapshotVersions);
+                        while (parser.nextTag() == XmlPullParser.START_TAG) {
+                            if ("snapshotVersion".equals(parser.getName())) {
+                                snapshotVersions.add(parseSnapshotVersion(parser, strict));
+                            } else {
+                                checkUnknownElement(parser, strict);
+                            }
+                        }
+                    }
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
         }
         return versioning;
     }
 
-    private Metadata read(XmlPullParser parser, boolean strict) throws IOException, XmlPullParserException
+    private Metadata read(XmlPullParser parser, boolean strict, Set<Field> fields, Consumer<String> versions)
+        throws IOException, XmlPullParserException
     {
         Metadata metadata = null;
         int eventType = parser.getEventType();
@@ -388,7 +562,7 @@ public class MetadataReader
 
                     throw new XmlPullParserException("Duplicated tag: 'metadata'", parser, null);
                 }
-                metadata = parseMetadata(parser, strict);
+                metadata = parseMetadata(parser, strict, fields, versions);
                 metadata.setModelEncoding(parser.getInputEncoding());
                 parsed = true;
             }
@@ -406,9 +580,26 @@ public class MetadataReader
         this.addDefaultEntities = addDefaultEntities;
     }
 
+    /**
+     * Sets whether documents are read with a parser kept per thread for reuse, which is the default, or with a new
+     * parser for every document.
+     */
+    public void setReuseParser(boolean reuseParser)
+    {
+        this.reuseParser = reuseParser;
+    }
+
     public static interface ContentTransformer
     {
 
         String transform(String source, String fieldName);
     }
+
+    /**
+     * The fields of the metadata and its versioning which can be projected when reading.
+     */
+    public static enum Field
+    {
+        GROUP_ID, ARTIFACT_ID, VERSION, PLUGINS, LATEST, RELEASE, VERSIONS, LAST_UPDATED, SNAPSHOT, SNAPSHOT_VERSIONS
+    }
 }
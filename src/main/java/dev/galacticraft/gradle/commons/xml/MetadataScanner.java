@@ -0,0 +1,690 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.galacticraft.gradle.commons.xml;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import dev.galacticraft.gradle.commons.xml.MetadataReader.ContentTransformer;
+import dev.galacticraft.gradle.commons.xml.MetadataReader.Field;
+import dev.galacticraft.gradle.commons.xml.metadata.Metadata;
+import dev.galacticraft.gradle.commons.xml.metadata.Snapshot;
+import dev.galacticraft.gradle.commons.xml.metadata.SnapshotVersion;
+import dev.galacticraft.gradle.commons.xml.metadata.Versioning;
+
+/**
+ * Scans the bytes of a metadata document directly, without a decoding reader or a pull parser. It only accepts the
+ * plain subset of XML which repositories generate: ASCII content, no entity or character references, no CDATA
+ * sections, processing instructions or doctype, and no attributes besides the ones of the root element. Anything else,
+ * including every document the pull parser would reject in strict mode, makes {@link #scan} return {@code null}, so
+ * that the caller can read the document with {@link MetadataReader} instead, which gives the same metadata or the
+ * error for the document.
+ */
+final class MetadataScanner
+{
+    /**
+     * Files of at least this size are mapped into memory, smaller ones are read into a heap buffer, for which the
+     * system calls are cheaper than setting up and later releasing a mapping.
+     */
+    private static final int MAP_THRESHOLD = 256 * 1024;
+
+    private static final Unexpected UNEXPECTED = new Unexpected();
+
+    private final ByteBuffer buffer;
+
+    private final int limit;
+
+    private final Set<Field> fields;
+
+    private final ContentTransformer contentTransformer;
+
+    private byte[] chars = new byte[64];
+
+    private int pos;
+
+    private int nameStart;
+
+    private int nameEnd;
+
+    private boolean empty;
+
+    private MetadataScanner(ByteBuffer buffer, Set<Field> fields, ContentTransformer contentTransformer)
+    {
+        this.buffer = buffer;
+        this.pos = buffer.position();
+        this.limit = buffer.limit();
+        this.fields = fields;
+        this.contentTransformer = contentTransformer;
+    }
+
+    static ByteBuffer load(Path file) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return null;
+            }
+            if (size >= MAP_THRESHOLD) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * Scans the projected fields of the metadata in the remaining bytes of the buffer, or returns {@code null} if the
+     * document is not in the subset the scanner accepts.
+     */
+    static Metadata scan(ByteBuffer buffer, Set<Field> fields, ContentTransformer contentTransformer)
+    {
+        if (buffer == null) {
+            return null;
+        }
+        try {
+            return new MetadataScanner(buffer, fields, contentTransformer).scanDocument();
+        } catch (Unexpected e) {
+            return null;
+        }
+    }
+
+    private Metadata scanDocument()
+    {
+        String encoding = null;
+        if (startsWith("<?xml")) {
+            encoding = scanDeclaration();
+        }
+        skipMisc();
+        if (!startsWith("<") || !startTag() || !nameIs("metadata")) {
+            throw UNEXPECTED;
+        }
+        int start = nameStart;
+        int end = nameEnd;
+        Metadata metadata = new Metadata();
+        List<String> attributes = new ArrayList<String>(4);
+        while (attribute()) {
+            String name = name();
+            if (attributes.contains(name)) {
+                throw UNEXPECTED;
+            }
+            attributes.add(name);
+            if (name.indexOf(':') >= 0 || "xmlns".equals(name)) {
+                continue;
+            }
+            if (!"modelVersion".equals(name)) {
+                throw UNEXPECTED;
+            }
+            // like the pull parser path, which reads the name of the attribute as its value
+            metadata.setModelVersion(text(name, "modelVersion"));
+        }
+        if (!empty) {
+            scanMetadata(metadata, start, end);
+        }
+        skipMisc();
+        if (pos != limit) {
+            throw UNEXPECTED;
+        }
+        metadata.setModelEncoding(encoding);
+        return metadata;
+    }
+
+    private String scanDeclaration()
+    {
+        pos += 5;
+        if (!whitespace() || !startsWith("version=") || !"1.0".equals(quoted(8))) {
+            throw UNEXPECTED;
+        }
+        String encoding = null;
+        boolean space = whitespace();
+        if (space && startsWith("encoding=")) {
+            encoding = quoted(9);
+            if (!"UTF-8".equalsIgnoreCase(encoding) && !"US-ASCII".equalsIgnoreCase(encoding)
+                && !"ISO-8859-1".equalsIgnoreCase(encoding)) {
+                throw UNEXPECTED;
+            }
+            space = whitespace();
+        }
+        if (space && startsWith("standalone=")) {
+            String standalone = quoted(11);
+            if (!"yes".equals(standalone) && !"no".equals(standalone)) {
+                throw UNEXPECTED;
+            }
+            whitespace();
+        }
+        if (!startsWith("?>")) {
+            throw UNEXPECTED;
+        }
+        pos += 2;
+        return encoding;
+    }
+
+    private void scanMetadata(Metadata metadata, int start, int end)
+    {
+        long parsed = 0L;
+        while (child(start, end)) {
+            if (nameIs("groupId")) {
+                parsed = checkDuplicate(parsed, 0);
+                if (project(Field.GROUP_ID)) {
+                    metadata.setGroupId(leaf("groupId"));
+                }
+            } else if (nameIs("artifactId")) {
+                parsed = checkDuplicate(parsed, 1);
+                if (project(Field.ARTIFACT_ID)) {
+                    metadata.setArtifactId(leaf("artifactId"));
+                }
+            } else if (nameIs("versioning")) {
+                parsed = checkDuplicate(parsed, 2);
+                if (!Collections.disjoint(fields, MetadataReader.VERSIONING_FIELDS)) {
+                    metadata.setVersioning(scanVersioning());
+                } else {
+                    skip();
+                }
+            } else if (nameIs("version")) {
+                parsed = checkDuplicate(parsed, 3);
+                if (project(Field.VERSION)) {
+                    metadata.setVersion(leaf("version"));
+                }
+            } else if (nameIs("plugins")) {
+                parsed = checkDuplicate(parsed, 4);
+                // the plugins of group metadata are left to the pull parser
+                if (fields.contains(Field.PLUGINS)) {
+                    throw UNEXPECTED;
+                }
+                skip();
+            } else {
+                throw UNEXPECTED;
+            }
+        }
+    }
+
+    private Versioning scanVersioning()
+    {
+        Versioning versioning = new Versioning();
+        int end = container();
+        int start = nameStart;
+        long parsed = 0L;
+        while (child(start, end)) {
+            if (nameIs("latest")) {
+                parsed = checkDuplicate(parsed, 0);
+                if (project(Field.LATEST)) {
+                    versioning.setLatest(leaf("latest"));
+                }
+            } else if (nameIs("release")) {
+                parsed = checkDuplicate(parsed, 1);
+                if (project(Field.RELEASE)) {
+                    versioning.setRelease(leaf("release"));
+                }
+            } else if (nameIs("versions")) {
+                parsed = checkDuplicate(parsed, 2);
+                if (project(Field.VERSIONS)) {
+                    List<String> versions = new ArrayList<String>();
+                    versioning.setVersions(versions);
+                    int versionsEnd = container();
+                    int versionsStart = nameStart;
+                    while (child(versionsStart, versionsEnd)) {
+                        if (!nameIs("version")) {
+                            throw UNEXPECTED;
+                        }
+                        versions.add(leaf("versions"));
+                    }
+                }
+            } else if (nameIs("lastUpdated")) {
+                parsed = checkDuplicate(parsed, 3);
+                if (project(Field.LAST_UPDATED)) {
+                    versioning.setLastUpdated(leaf("lastUpdated"));
+                }
+            } else if (nameIs("snapshot")) {
+                parsed = checkDuplicate(parsed, 4);
+                if (project(Field.SNAPSHOT)) {
+                    versioning.setSnapshot(scanSnapshot());
+                }
+            } else if (nameIs("snapshotVersions")) {
+                parsed = checkDuplicate(parsed, 5);
+                if (project(Field.SNAPSHOT_VERSIONS)) {
+                    List<SnapshotVersion> snapshotVersions = new ArrayList<SnapshotVersion>();
+                    versioning.setSnapshotVersions(snapshotVersions);
+                    int snapshotVersionsEnd = container();
+                    int snapshotVersionsStart = nameStart;
+                    while (child(snapshotVersionsStart, snapshotVersionsEnd)) {
+                        if (!nameIs("snapshotVersion")) {
+                            throw UNEXPECTED;
+                        }
+                        snapshotVersions.add(scanSnapshotVersion());
+                    }
+                }
+            } else {
+                throw UNEXPECTED;
+            }
+        }
+        return versioning;
+    }
+
+    private Snapshot scanSnapshot()
+    {
+        Snapshot snapshot = new Snapshot();
+        int end = container();
+        int start = nameStart;
+        long parsed = 0L;
+        while (child(start, end)) {
+            if (nameIs("timestamp")) {
+                parsed = checkDuplicate(parsed, 0);
+                snapshot.setTimestamp(leaf("timestamp"));
+            } else if (nameIs("buildNumber")) {
+                parsed = checkDuplicate(parsed, 1);
+                String buildNumber = leaf("buildNumber");
+                if (buildNumber != null) {
+                    try {
+                        snapshot.setBuildNumber(Integer.parseInt(buildNumber));
+                    } catch (NumberFormatException e) {
+                        throw UNEXPECTED;
+                    }
+                }
+            } else if (nameIs("localCopy")) {
+                parsed = checkDuplicate(parsed, 2);
+                String localCopy = leaf("localCopy");
+                snapshot.setLocalCopy(localCopy != null && localCopy.length() != 0 && Boolean.parseBoolean(localCopy));
+            } else {
+                throw UNEXPECTED;
+            }
+        }
+        return snapshot;
+    }
+
+    private SnapshotVersion scanSnapshotVersion()
+    {
+        SnapshotVersion snapshotVersion = new SnapshotVersion();
+        int end = container();
+        int start = nameStart;
+        long parsed = 0L;
+        while (child(start, end)) {
+            if (nameIs("classifier")) {
+                parsed = checkDuplicate(parsed, 0);
+                snapshotVersion.setClassifier(leaf("classifier"));
+            } else if (nameIs("extension")) {
+                parsed = checkDuplicate(parsed, 1);
+                snapshotVersion.setExtension(leaf("extension"));
+            } else if (nameIs("value")) {
+                parsed = checkDuplicate(parsed, 2);
+                snapshotVersion.setVersion(leaf("value"));
+            } else if (nameIs("updated")) {
+                parsed = checkDuplicate(parsed, 3);
+                snapshotVersion.setUpdated(leaf("updated"));
+            } else {
+                throw UNEXPECTED;
+            }
+        }
+        return snapshotVersion;
+    }
+
+    private long checkDuplicate(long parsed, int field)
+    {
+        if ((parsed & (1L << field)) != 0) {
+            throw UNEXPECTED;
+        }
+        return parsed | (1L << field);
+    }
+
+    private boolean project(Field field)
+    {
+        if (fields.contains(field)) {
+            return true;
+        }
+        skip();
+        return false;
+    }
+
+    /**
+     * Finishes the start tag of a container element, which must not have attributes, and returns the end of its name.
+     * The children of an empty container are not visited by {@link #child}.
+     */
+    private int container()
+    {
+        if (attribute()) {
+            throw UNEXPECTED;
+        }
+        return empty ? -1 : nameEnd;
+    }
+
+    /**
+     * Moves to the start tag of the next child of the element with the given name, or past its end tag if there are
+     * no more children. Only whitespace and comments may be between the children.
+     */
+    private boolean child(int start, int end)
+    {
+        if (end < 0) {
+            return false;
+        }
+        skipMisc();
+        if (!startsWith("<")) {
+            throw UNEXPECTED;
+        }
+        if (startsWith("</")) {
+            endTag(start, end);
+            return false;
+        }
+        if (!startTag()) {
+            throw UNEXPECTED;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the text of a leaf element, which must not have attributes or children.
+     */
+    private String leaf(String context)
+    {
+        if (attribute()) {
+            throw UNEXPECTED;
+        }
+        if (empty) {
+            return text("", context);
+        }
+        int start = nameStart;
+        int end = nameEnd;
+        int textStart = pos;
+        while (pos < limit) {
+            int c = buffer.get(pos);
+            if (c == '<') {
+                String text = ascii(textStart, pos);
+                if (!startsWith("</")) {
+                    throw UNEXPECTED;
+                }
+                endTag(start, end);
+                return text(text, context);
+            }
+            checkTextChar(c);
+            pos++;
+        }
+        throw UNEXPECTED;
+    }
+
+    /**
+     * Skips the rest of an element which is not projected, after its start tag, like the pull parser does without
+     * looking at the names of its children.
+     */
+    private void skip()
+    {
+        if (attribute()) {
+            throw UNEXPECTED;
+        }
+        if (empty) {
+            return;
+        }
+        int start = nameStart;
+        int end = nameEnd;
+        while (pos < limit) {
+            int c = buffer.get(pos);
+            if (c != '<') {
+                checkTextChar(c);
+                pos++;
+            } else if (startsWith("</")) {
+                endTag(start, end);
+                return;
+            } else if (startsWith("<!--")) {
+                comment();
+            } else if (startTag()) {
+                skip();
+            } else {
+                throw UNEXPECTED;
+            }
+        }
+        throw UNEXPECTED;
+    }
+
+    private void checkTextChar(int c)
+    {
+        // references, carriage returns which the parser normalizes, control characters, non-ASCII bytes, which are
+        // negative, and ']]>' are left to the pull parser
+        if (c == '&' || c < ' ' && c != '\t' && c != '\n') {
+            throw UNEXPECTED;
+        }
+        if (c == '>' && pos - 2 >= 0 && buffer.get(pos - 1) == ']' && buffer.get(pos - 2) == ']') {
+            throw UNEXPECTED;
+        }
+    }
+
+    private String text(String source, String context)
+    {
+        String value = contentTransformer.transform(source, context);
+        return value != null ? value.trim() : null;
+    }
+
+    /**
+     * Reads the name of a start tag at the current '<', and returns {@code false} if there is no name.
+     */
+    private boolean startTag()
+    {
+        int start = pos + 1;
+        int end = nameEnd(start);
+        if (end == start) {
+            return false;
+        }
+        nameStart = start;
+        nameEnd = end;
+        pos = end;
+        empty = false;
+        return true;
+    }
+
+    /**
+     * Reads the next attribute of the current start tag into the name range, or finishes the start tag and returns
+     * {@code false} if there are no more attributes. The values must not contain references.
+     */
+    private boolean attribute()
+    {
+        boolean space = whitespace();
+        if (startsWith(">")) {
+            pos++;
+            return false;
+        }
+        if (startsWith("/>")) {
+            pos += 2;
+            empty = true;
+            return false;
+        }
+        int end = nameEnd(pos);
+        if (!space || end == pos || end >= limit || buffer.get(end) != '=') {
+            throw UNEXPECTED;
+        }
+        nameStart = pos;
+        nameEnd = end;
+        pos = end;
+        quoted(1);
+        return true;
+    }
+
+    private void endTag(int start, int end)
+    {
+        int length = end - start;
+        int nameStart = pos + 2;
+        if (nameEnd(nameStart) != nameStart + length) {
+            throw UNEXPECTED;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(nameStart + i) != buffer.get(start + i)) {
+                throw UNEXPECTED;
+            }
+        }
+        pos = nameStart + length;
+        whitespace();
+        if (!startsWith(">")) {
+            throw UNEXPECTED;
+        }
+        pos++;
+    }
+
+    /**
+     * Reads a quoted value after the given number of bytes, which must not contain markup or references.
+     */
+    private String quoted(int skip)
+    {
+        pos += skip;
+        if (pos >= limit) {
+            throw UNEXPECTED;
+        }
+        int quote = buffer.get(pos);
+        if (quote != '"' && quote != '\'') {
+            throw UNEXPECTED;
+        }
+        int start = ++pos;
+        while (pos < limit) {
+            int c = buffer.get(pos);
+            if (c == quote) {
+                return ascii(start, pos++);
+            }
+            if (c == '<' || c == '&' || c < ' ') {
+                throw UNEXPECTED;
+            }
+            pos++;
+        }
+        throw UNEXPECTED;
+    }
+
+    private void skipMisc()
+    {
+        whitespace();
+        while (startsWith("<!--")) {
+            comment();
+            whitespace();
+        }
+    }
+
+    private void comment()
+    {
+        pos += 4;
+        while (pos + 1 < limit) {
+            int c = buffer.get(pos);
+            if (c == '-' && buffer.get(pos + 1) == '-') {
+                if (pos + 2 >= limit || buffer.get(pos + 2) != '>') {
+                    throw UNEXPECTED;
+                }
+                pos += 3;
+                return;
+            }
+            if (c < ' ' && c != '\t' && c != '\n' && c != '\r') {
+                throw UNEXPECTED;
+            }
+            pos++;
+        }
+        throw UNEXPECTED;
+    }
+
+    private boolean whitespace()
+    {
+        int start = pos;
+        while (pos < limit) {
+            int c = buffer.get(pos);
+            if (c != ' ' && c != '\n' && c != '\t' && c != '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos != start;
+    }
+
+    private int nameEnd(int start)
+    {
+        int end = start;
+        while (end < limit) {
+            int c = buffer.get(end);
+            if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_' || c == ':'
+                || end != start && (c >= '0' && c <= '9' || c == '-' || c == '.')) {
+                end++;
+            } else {
+                break;
+            }
+        }
+        return end;
+    }
+
+    private boolean nameIs(String name)
+    {
+        int length = name.length();
+        if (nameEnd - nameStart != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(nameStart + i) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String name()
+    {
+        return ascii(nameStart, nameEnd);
+    }
+
+    private boolean startsWith(String s)
+    {
+        int length = s.length();
+        if (pos + length > limit) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(pos + i) != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String ascii(int start, int end)
+    {
+        int length = end - start;
+        if (length > chars.length) {
+            chars = new byte[Math.max(length, chars.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            chars[i] = buffer.get(start + i);
+        }
+        return new String(chars, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Thrown without a stack trace for anything the scanner does not accept, and caught in {@link #scan}.
+     */
+    private static final class Unexpected extends RuntimeException
+    {
+        private static final long serialVersionUID = 1L;
+
+        Unexpected()
+        {
+            super(null, null, false, false);
+        }
+    }
+}
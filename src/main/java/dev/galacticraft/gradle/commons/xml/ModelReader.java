@@ -29,8 +29,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.codehaus.plexus.util.ReaderFactory;
@@ -81,6 +83,8 @@ public class ModelReader
 {
     private boolean addDefaultEntities = true;
 
+    private boolean reuseParser = true;
+
     public final ContentTransformer contentTransformer;
 
     public ModelReader()
@@ -99,19 +103,62 @@ public class ModelReader
         String transform(String param1String1, String param1String2);
     }
 
+    /**
+     * The top-level sections of a POM which can be kept when reading. The elements of all other sections are skipped
+     * by depth-counting, without building their objects or DOM trees.
+     */
+    public static enum Section
+    {
+        MODEL_VERSION("modelVersion"), PARENT("parent"), GROUP_ID("groupId"), ARTIFACT_ID("artifactId"),
+        VERSION("version"), PACKAGING("packaging"), NAME("name"), DESCRIPTION("description"), URL("url"),
+        INCEPTION_YEAR("inceptionYear"), ORGANIZATION("organization", "organisation"), LICENSES("licenses"),
+        DEVELOPERS("developers"), CONTRIBUTORS("contributors"), MAILING_LISTS("mailingLists"),
+        PREREQUISITES("prerequisites"), MODULES("modules"), SCM("scm"), ISSUE_MANAGEMENT("issueManagement"),
+        CI_MANAGEMENT("ciManagement"), DISTRIBUTION_MANAGEMENT("distributionManagement"), PROPERTIES("properties"),
+        DEPENDENCY_MANAGEMENT("dependencyManagement"), DEPENDENCIES("dependencies"), REPOSITORIES("repositories"),
+        PLUGIN_REPOSITORIES("pluginRepositories"), BUILD("build"), REPORTS("reports"), REPORTING("reporting"),
+        PROFILES("profiles");
+
+        // declared in the order parseModel checks the tags, so that the ordinal is the bit of the section there
+        private static final Map<String, Section> BY_TAG = new HashMap<>();
+
+        static {
+            for (Section section : values()) {
+                BY_TAG.put(section.tagName, section);
+                if (section.alias != null)
+                    BY_TAG.put(section.alias, section);
+            }
+        }
+
+        private final String tagName;
+
+        private final String alias;
+
+        Section(String tagName)
+        {
+            this(tagName, null);
+        }
+
+        Section(String tagName, String alias)
+        {
+            this.tagName = tagName;
+            this.alias = alias;
+        }
+    }
+
+    private static final Set<Section> ALL_SECTIONS = EnumSet.allOf(Section.class);
+
     public ModelReader(ContentTransformer contentTransformer)
     {
         this.contentTransformer = contentTransformer;
     }
 
-    private boolean checkFieldWithDuplicate(XmlPullParser parser, String tagName, String alias, Set<String> parsed)
+    private long checkDuplicate(XmlPullParser parser, String tagName, long parsed, int field)
         throws XmlPullParserException
     {
-        if (!parser.getName().equals(tagName) && !parser.getName().equals(alias))
-            return false;
-        if (!parsed.add(tagName))
+        if ((parsed & (1L << field)) != 0)
             throw new XmlPullParserException("Duplicated tag: '" + tagName + "'", parser, null);
-        return true;
+        return parsed | (1L << field);
     }
 
     private void checkUnknownAttribute(XmlPullParser parser, String attribute, String tagName, boolean strict)
@@ -126,6 +173,11 @@ public class ModelReader
     {
         if (strict)
             throw new XmlPullParserException("Unrecognised tag: '" + parser.getName() + "'", parser, null);
+        skipElement(parser);
+    }
+
+    private void skipElement(XmlPullParser parser) throws XmlPullParserException, IOException
+    {
         for (int unrecognizedTagCount = 1; unrecognizedTagCount > 0;) {
             int eventType = parser.next();
             if (eventType == 2) {
@@ -142,6 +194,11 @@ public class ModelReader
         return this.addDefaultEntities;
     }
 
+    public boolean getReuseParser()
+    {
+        return this.reuseParser;
+    }
+
     private boolean getBooleanValue(String s, String attribute, XmlPullParser parser, String defaultValue)
         throws XmlPullParserException
     {
@@ -177,10 +234,28 @@ public class ModelReader
 
     public Model read(Reader reader, boolean strict) throws IOException, XmlPullParserException
     {
-        MXParser mXParser =
-            this.addDefaultEntities ? new MXParser(EntityReplacementMap.defaultEntityReplacementMap) : new MXParser();
-        mXParser.setInput(reader);
-        return read((XmlPullParser) mXParser, strict);
+        return read(reader, strict, ALL_SECTIONS);
+    }
+
+    /**
+     * Reads only the given top-level sections of the POM, which leaves all other sections of the model unset.
+     */
+    public Model read(Reader reader, boolean strict, Set<Section> sections) throws IOException, XmlPullParserException
+    {
+        MXParser mXParser = this.reuseParser ? ParserPool.acquire(this.addDefaultEntities)
+            : this.addDefaultEntities ? new MXParser(EntityReplacementMap.defaultEntityReplacementMap) : new MXParser();
+        try {
+            mXParser.setInput(reader);
+            return read((XmlPullParser) mXParser, strict, sections);
+        } finally {
+            if (this.reuseParser)
+                ParserPool.release(mXParser, this.addDefaultEntities);
+        }
+    }
+
+    public Model read(InputStream in, Set<Section> sections) throws IOException, XmlPullParserException
+    {
+        return read((Reader) ReaderFactory.newXmlReader(in), true, sections);
     }
 
     public Model read(Reader reader) throws IOException, XmlPullParserException
@@ -208,30 +283,33 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "activeByDefault", null, parsed)) {
-                activation.setActiveByDefault(getBooleanValue(interpolatedTrimmed(parser.nextText(), "activeByDefault"),
-                    "activeByDefault", parser, "false"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "jdk", null, parsed)) {
-                activation.setJdk(interpolatedTrimmed(parser.nextText(), "jdk"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "os", null, parsed)) {
-                activation.setOs(parseActivationOS(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "property", null, parsed)) {
-                activation.setProperty(parseActivationProperty(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "file", null, parsed)) {
-                activation.setFile(parseActivationFile(parser, strict));
-                continue;
+            switch (parser.getName()) {
+                case "activeByDefault":
+                    parsed = checkDuplicate(parser, "activeByDefault", parsed, 0);
+                    activation.setActiveByDefault(getBooleanValue(interpolatedTrimmed(parser.nextText(), "activeByDefault"),
+                        "activeByDefault", parser, "false"));
+                    break;
+                case "jdk":
+                    parsed = checkDuplicate(parser, "jdk", parsed, 1);
+                    activation.setJdk(interpolatedTrimmed(parser.nextText(), "jdk"));
+                    break;
+                case "os":
+                    parsed = checkDuplicate(parser, "os", parsed, 2);
+                    activation.setOs(parseActivationOS(parser, strict));
+                    break;
+                case "property":
+                    parsed = checkDuplicate(parser, "property", parsed, 3);
+                    activation.setProperty(parseActivationProperty(parser, strict));
+                    break;
+                case "file":
+                    parsed = checkDuplicate(parser, "file", parsed, 4);
+                    activation.setFile(parseActivationFile(parser, strict));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return activation;
     }
@@ -247,17 +325,20 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "missing", null, parsed)) {
-                activationFile.setMissing(interpolatedTrimmed(parser.nextText(), "missing"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "exists", null, parsed)) {
-                activationFile.setExists(interpolatedTrimmed(parser.nextText(), "exists"));
-                continue;
+            switch (parser.getName()) {
+                case "missing":
+                    parsed = checkDuplicate(parser, "missing", parsed, 0);
+                    activationFile.setMissing(interpolatedTrimmed(parser.nextText(), "missing"));
+                    break;
+                case "exists":
+                    parsed = checkDuplicate(parser, "exists", parsed, 1);
+                    activationFile.setExists(interpolatedTrimmed(parser.nextText(), "exists"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return activationFile;
     }
@@ -273,25 +354,28 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                activationOS.setName(interpolatedTrimmed(parser.nextText(), "name"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "family", null, parsed)) {
-                activationOS.setFamily(interpolatedTrimmed(parser.nextText(), "family"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "arch", null, parsed)) {
-                activationOS.setArch(interpolatedTrimmed(parser.nextText(), "arch"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "version", null, parsed)) {
-                activationOS.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
-                continue;
+            switch (parser.getName()) {
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 0);
+                    activationOS.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "family":
+                    parsed = checkDuplicate(parser, "family", parsed, 1);
+                    activationOS.setFamily(interpolatedTrimmed(parser.nextText(), "family"));
+                    break;
+                case "arch":
+                    parsed = checkDuplicate(parser, "arch", parsed, 2);
+                    activationOS.setArch(interpolatedTrimmed(parser.nextText(), "arch"));
+                    break;
+                case "version":
+                    parsed = checkDuplicate(parser, "version", parsed, 3);
+                    activationOS.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return activationOS;
     }
@@ -307,17 +391,20 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                activationProperty.setName(interpolatedTrimmed(parser.nextText(), "name"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "value", null, parsed)) {
-                activationProperty.setValue(interpolatedTrimmed(parser.nextText(), "value"));
-                continue;
+            switch (parser.getName()) {
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 0);
+                    activationProperty.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "value":
+                    parsed = checkDuplicate(parser, "value", parsed, 1);
+                    activationProperty.setValue(interpolatedTrimmed(parser.nextText(), "value"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return activationProperty;
     }
@@ -332,105 +419,108 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "sourceDirectory", null, parsed)) {
-                build.setSourceDirectory(interpolatedTrimmed(parser.nextText(), "sourceDirectory"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "scriptSourceDirectory", null, parsed)) {
-                build.setScriptSourceDirectory(interpolatedTrimmed(parser.nextText(), "scriptSourceDirectory"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "testSourceDirectory", null, parsed)) {
-                build.setTestSourceDirectory(interpolatedTrimmed(parser.nextText(), "testSourceDirectory"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "outputDirectory", null, parsed)) {
-                build.setOutputDirectory(interpolatedTrimmed(parser.nextText(), "outputDirectory"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "testOutputDirectory", null, parsed)) {
-                build.setTestOutputDirectory(interpolatedTrimmed(parser.nextText(), "testOutputDirectory"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "extensions", null, parsed)) {
-                List<Extension> extensions = new ArrayList<>();
-                build.setExtensions(extensions);
-                while (parser.nextTag() == 2) {
-                    if ("extension".equals(parser.getName())) {
-                        extensions.add(parseExtension(parser, strict));
-                        continue;
+            switch (parser.getName()) {
+                case "sourceDirectory":
+                    parsed = checkDuplicate(parser, "sourceDirectory", parsed, 0);
+                    build.setSourceDirectory(interpolatedTrimmed(parser.nextText(), "sourceDirectory"));
+                    break;
+                case "scriptSourceDirectory":
+                    parsed = checkDuplicate(parser, "scriptSourceDirectory", parsed, 1);
+                    build.setScriptSourceDirectory(interpolatedTrimmed(parser.nextText(), "scriptSourceDirectory"));
+                    break;
+                case "testSourceDirectory":
+                    parsed = checkDuplicate(parser, "testSourceDirectory", parsed, 2);
+                    build.setTestSourceDirectory(interpolatedTrimmed(parser.nextText(), "testSourceDirectory"));
+                    break;
+                case "outputDirectory":
+                    parsed = checkDuplicate(parser, "outputDirectory", parsed, 3);
+                    build.setOutputDirectory(interpolatedTrimmed(parser.nextText(), "outputDirectory"));
+                    break;
+                case "testOutputDirectory":
+                    parsed = checkDuplicate(parser, "testOutputDirectory", parsed, 4);
+                    build.setTestOutputDirectory(interpolatedTrimmed(parser.nextText(), "testOutputDirectory"));
+                    break;
+                case "extensions":
+                    parsed = checkDuplicate(parser, "extensions", parsed, 5);
+                    List<Extension> extensions = new ArrayList<>();
+                    build.setExtensions(extensions);
+                    while (parser.nextTag() == 2) {
+                        if ("extension".equals(parser.getName())) {
+                            extensions.add(parseExtension(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "defaultGoal", null, parsed)) {
-                build.setDefaultGoal(interpolatedTrimmed(parser.nextText(), "defaultGoal"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "resources", null, parsed)) {
-                List<Resource> resources = new ArrayList<>();
-                build.setResources(resources);
-                while (parser.nextTag() == 2) {
-                    if ("resource".equals(parser.getName())) {
-                        resources.add(parseResource(parser, strict));
-                        continue;
+                    break;
+                case "defaultGoal":
+                    parsed = checkDuplicate(parser, "defaultGoal", parsed, 6);
+                    build.setDefaultGoal(interpolatedTrimmed(parser.nextText(), "defaultGoal"));
+                    break;
+                case "resources":
+                    parsed = checkDuplicate(parser, "resources", parsed, 7);
+                    List<Resource> resources = new ArrayList<>();
+                    build.setResources(resources);
+                    while (parser.nextTag() == 2) {
+                        if ("resource".equals(parser.getName())) {
+                            resources.add(parseResource(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "testResources", null, parsed)) {
-                List<Resource> testResources = new ArrayList<>();
-                build.setTestResources(testResources);
-                while (parser.nextTag() == 2) {
-                    if ("testResource".equals(parser.getName())) {
-                        testResources.add(parseResource(parser, strict));
-                        continue;
+                    break;
+                case "testResources":
+                    parsed = checkDuplicate(parser, "testResources", parsed, 8);
+                    List<Resource> testResources = new ArrayList<>();
+                    build.setTestResources(testResources);
+                    while (parser.nextTag() == 2) {
+                        if ("testResource".equals(parser.getName())) {
+                            testResources.add(parseResource(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "directory", null, parsed)) {
-                build.setDirectory(interpolatedTrimmed(parser.nextText(), "directory"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "finalName", null, parsed)) {
-                build.setFinalName(interpolatedTrimmed(parser.nextText(), "finalName"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "filters", null, parsed)) {
-                List<String> filters = new ArrayList<>();
-                build.setFilters(filters);
-                while (parser.nextTag() == 2) {
-                    if ("filter".equals(parser.getName())) {
-                        filters.add(interpolatedTrimmed(parser.nextText(), "filters"));
-                        continue;
+                    break;
+                case "directory":
+                    parsed = checkDuplicate(parser, "directory", parsed, 9);
+                    build.setDirectory(interpolatedTrimmed(parser.nextText(), "directory"));
+                    break;
+                case "finalName":
+                    parsed = checkDuplicate(parser, "finalName", parsed, 10);
+                    build.setFinalName(interpolatedTrimmed(parser.nextText(), "finalName"));
+                    break;
+                case "filters":
+                    parsed = checkDuplicate(parser, "filters", parsed, 11);
+                    List<String> filters = new ArrayList<>();
+                    build.setFilters(filters);
+                    while (parser.nextTag() == 2) {
+                        if ("filter".equals(parser.getName())) {
+                            filters.add(interpolatedTrimmed(parser.nextText(), "filters"));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "pluginManagement", null, parsed)) {
-                build.setPluginManagement(parsePluginManagement(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "plugins", null, parsed)) {
-                List<Plugin> plugins = new ArrayList<>();
-                build.setPlugins(plugins);
-                while (parser.nextTag() == 2) {
-                    if ("plugin".equals(parser.getName())) {
-                        plugins.add(parsePlugin(parser, strict));
-                        continue;
+                    break;
+                case "pluginManagement":
+                    parsed = checkDuplicate(parser, "pluginManagement", parsed, 12);
+                    build.setPluginManagement(parsePluginManagement(parser, strict));
+                    break;
+                case "plugins":
+                    parsed = checkDuplicate(parser, "plugins", parsed, 13);
+                    List<Plugin> plugins = new ArrayList<>();
+                    build.setPlugins(plugins);
+                    while (parser.nextTag() == 2) {
+                        if ("plugin".equals(parser.getName())) {
+                            plugins.add(parsePlugin(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return build;
     }
@@ -445,73 +535,76 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "defaultGoal", null, parsed)) {
-                buildBase.setDefaultGoal(interpolatedTrimmed(parser.nextText(), "defaultGoal"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "resources", null, parsed)) {
-                List<Resource> resources = new ArrayList<>();
-                buildBase.setResources(resources);
-                while (parser.nextTag() == 2) {
-                    if ("resource".equals(parser.getName())) {
-                        resources.add(parseResource(parser, strict));
-                        continue;
+            switch (parser.getName()) {
+                case "defaultGoal":
+                    parsed = checkDuplicate(parser, "defaultGoal", parsed, 0);
+                    buildBase.setDefaultGoal(interpolatedTrimmed(parser.nextText(), "defaultGoal"));
+                    break;
+                case "resources":
+                    parsed = checkDuplicate(parser, "resources", parsed, 1);
+                    List<Resource> resources = new ArrayList<>();
+                    buildBase.setResources(resources);
+                    while (parser.nextTag() == 2) {
+                        if ("resource".equals(parser.getName())) {
+                            resources.add(parseResource(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "testResources", null, parsed)) {
-                List<Resource> testResources = new ArrayList<>();
-                buildBase.setTestResources(testResources);
-                while (parser.nextTag() == 2) {
-                    if ("testResource".equals(parser.getName())) {
-                        testResources.add(parseResource(parser, strict));
-                        continue;
+                    break;
+                case "testResources":
+                    parsed = checkDuplicate(parser, "testResources", parsed, 2);
+                    List<Resource> testResources = new ArrayList<>();
+                    buildBase.setTestResources(testResources);
+                    while (parser.nextTag() == 2) {
+                        if ("testResource".equals(parser.getName())) {
+                            testResources.add(parseResource(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "directory", null, parsed)) {
-                buildBase.setDirectory(interpolatedTrimmed(parser.nextText(), "directory"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "finalName", null, parsed)) {
-                buildBase.setFinalName(interpolatedTrimmed(parser.nextText(), "finalName"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "filters", null, parsed)) {
-                List<String> filters = new ArrayList<>();
-                buildBase.setFilters(filters);
-                while (parser.nextTag() == 2) {
-                    if ("filter".equals(parser.getName())) {
-                        filters.add(interpolatedTrimmed(parser.nextText(), "filters"));
-                        continue;
+                    break;
+                case "directory":
+                    parsed = checkDuplicate(parser, "directory", parsed, 3);
+                    buildBase.setDirectory(interpolatedTrimmed(parser.nextText(), "directory"));
+                    break;
+                case "finalName":
+                    parsed = checkDuplicate(parser, "finalName", parsed, 4);
+                    buildBase.setFinalName(interpolatedTrimmed(parser.nextText(), "finalName"));
+                    break;
+                case "filters":
+                    parsed = checkDuplicate(parser, "filters", parsed, 5);
+                    List<String> filters = new ArrayList<>();
+                    buildBase.setFilters(filters);
+                    while (parser.nextTag() == 2) {
+                        if ("filter".equals(parser.getName())) {
+                            filters.add(interpolatedTrimmed(parser.nextText(), "filters"));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "pluginManagement", null, parsed)) {
-                buildBase.setPluginManagement(parsePluginManagement(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "plugins", null, parsed)) {
-                List<Plugin> plugins = new ArrayList<>();
-                buildBase.setPlugins(plugins);
-                while (parser.nextTag() == 2) {
-                    if ("plugin".equals(parser.getName())) {
-                        plugins.add(parsePlugin(parser, strict));
-                        continue;
+                    break;
+                case "pluginManagement":
+                    parsed = checkDuplicate(parser, "pluginManagement", parsed, 6);
+                    buildBase.setPluginManagement(parsePluginManagement(parser, strict));
+                    break;
+                case "plugins":
+                    parsed = checkDuplicate(parser, "plugins", parsed, 7);
+                    List<Plugin> plugins = new ArrayList<>();
+                    buildBase.setPlugins(plugins);
+                    while (parser.nextTag() == 2) {
+                        if ("plugin".equals(parser.getName())) {
+                            plugins.add(parsePlugin(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return buildBase;
     }
@@ -527,29 +620,32 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "system", null, parsed)) {
-                ciManagement.setSystem(interpolatedTrimmed(parser.nextText(), "system"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "url", null, parsed)) {
-                ciManagement.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "notifiers", null, parsed)) {
-                List<Notifier> notifiers = new ArrayList<>();
-                ciManagement.setNotifiers(notifiers);
-                while (parser.nextTag() == 2) {
-                    if ("notifier".equals(parser.getName())) {
-                        notifiers.add(parseNotifier(parser, strict));
-                        continue;
+            switch (parser.getName()) {
+                case "system":
+                    parsed = checkDuplicate(parser, "system", parsed, 0);
+                    ciManagement.setSystem(interpolatedTrimmed(parser.nextText(), "system"));
+                    break;
+                case "url":
+                    parsed = checkDuplicate(parser, "url", parsed, 1);
+                    ciManagement.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
+                    break;
+                case "notifiers":
+                    parsed = checkDuplicate(parser, "notifiers", parsed, 2);
+                    List<Notifier> notifiers = new ArrayList<>();
+                    ciManagement.setNotifiers(notifiers);
+                    while (parser.nextTag() == 2) {
+                        if ("notifier".equals(parser.getName())) {
+                            notifiers.add(parseNotifier(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return ciManagement;
     }
@@ -565,53 +661,58 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                contributor.setName(interpolatedTrimmed(parser.nextText(), "name"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "email", null, parsed)) {
-                contributor.setEmail(interpolatedTrimmed(parser.nextText(), "email"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "url", null, parsed)) {
-                contributor.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "organization", "organisation", parsed)) {
-                contributor.setOrganization(interpolatedTrimmed(parser.nextText(), "organization"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "organizationUrl", "organisationUrl", parsed)) {
-                contributor.setOrganizationUrl(interpolatedTrimmed(parser.nextText(), "organizationUrl"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "roles", null, parsed)) {
-                List<String> roles = new ArrayList<>();
-                contributor.setRoles(roles);
-                while (parser.nextTag() == 2) {
-                    if ("role".equals(parser.getName())) {
-                        roles.add(interpolatedTrimmed(parser.nextText(), "roles"));
-                        continue;
+            switch (parser.getName()) {
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 0);
+                    contributor.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "email":
+                    parsed = checkDuplicate(parser, "email", parsed, 1);
+                    contributor.setEmail(interpolatedTrimmed(parser.nextText(), "email"));
+                    break;
+                case "url":
+                    parsed = checkDuplicate(parser, "url", parsed, 2);
+                    contributor.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
+                    break;
+                case "organization":
+                case "organisation":
+                    parsed = checkDuplicate(parser, "organization", parsed, 3);
+                    contributor.setOrganization(interpolatedTrimmed(parser.nextText(), "organization"));
+                    break;
+                case "organizationUrl":
+                case "organisationUrl":
+                    parsed = checkDuplicate(parser, "organizationUrl", parsed, 4);
+                    contributor.setOrganizationUrl(interpolatedTrimmed(parser.nextText(), "organizationUrl"));
+                    break;
+                case "roles":
+                    parsed = checkDuplicate(parser, "roles", parsed, 5);
+                    List<String> roles = new ArrayList<>();
+                    contributor.setRoles(roles);
+                    while (parser.nextTag() == 2) {
+                        if ("role".equals(parser.getName())) {
+                            roles.add(interpolatedTrimmed(parser.nextText(), "roles"));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                case "timezone":
+                    parsed = checkDuplicate(parser, "timezone", parsed, 6);
+                    contributor.setTimezone(interpolatedTrimmed(parser.nextText(), "timezone"));
+                    break;
+                case "properties":
+                    parsed = checkDuplicate(parser, "properties", parsed, 7);
+                    while (parser.nextTag() == 2) {
+                        String key = parser.getName();
+                        String value = parser.nextText().trim();
+                        contributor.addProperty(key, value);
+                    }
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "timezone", null, parsed)) {
-                contributor.setTimezone(interpolatedTrimmed(parser.nextText(), "timezone"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "properties", null, parsed)) {
-                while (parser.nextTag() == 2) {
-                    String key = parser.getName();
-                    String value = parser.nextText().trim();
-                    contributor.addProperty(key, value);
-                }
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return contributor;
     }
@@ -626,53 +727,56 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "groupId", null, parsed)) {
-                dependency.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "artifactId", null, parsed)) {
-                dependency.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "version", null, parsed)) {
-                dependency.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "type", null, parsed)) {
-                dependency.setType(interpolatedTrimmed(parser.nextText(), "type"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "classifier", null, parsed)) {
-                dependency.setClassifier(interpolatedTrimmed(parser.nextText(), "classifier"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "scope", null, parsed)) {
-                dependency.setScope(interpolatedTrimmed(parser.nextText(), "scope"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "systemPath", null, parsed)) {
-                dependency.setSystemPath(interpolatedTrimmed(parser.nextText(), "systemPath"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "exclusions", null, parsed)) {
-                List<Exclusion> exclusions = new ArrayList<>();
-                dependency.setExclusions(exclusions);
-                while (parser.nextTag() == 2) {
-                    if ("exclusion".equals(parser.getName())) {
-                        exclusions.add(parseExclusion(parser, strict));
-                        continue;
+            switch (parser.getName()) {
+                case "groupId":
+                    parsed = checkDuplicate(parser, "groupId", parsed, 0);
+                    dependency.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
+                    break;
+                case "artifactId":
+                    parsed = checkDuplicate(parser, "artifactId", parsed, 1);
+                    dependency.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
+                    break;
+                case "version":
+                    parsed = checkDuplicate(parser, "version", parsed, 2);
+                    dependency.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
+                    break;
+                case "type":
+                    parsed = checkDuplicate(parser, "type", parsed, 3);
+                    dependency.setType(interpolatedTrimmed(parser.nextText(), "type"));
+                    break;
+                case "classifier":
+                    parsed = checkDuplicate(parser, "classifier", parsed, 4);
+                    dependency.setClassifier(interpolatedTrimmed(parser.nextText(), "classifier"));
+                    break;
+                case "scope":
+                    parsed = checkDuplicate(parser, "scope", parsed, 5);
+                    dependency.setScope(interpolatedTrimmed(parser.nextText(), "scope"));
+                    break;
+                case "systemPath":
+                    parsed = checkDuplicate(parser, "systemPath", parsed, 6);
+                    dependency.setSystemPath(interpolatedTrimmed(parser.nextText(), "systemPath"));
+                    break;
+                case "exclusions":
+                    parsed = checkDuplicate(parser, "exclusions", parsed, 7);
+                    List<Exclusion> exclusions = new ArrayList<>();
+                    dependency.setExclusions(exclusions);
+                    while (parser.nextTag() == 2) {
+                        if ("exclusion".equals(parser.getName())) {
+                            exclusions.add(parseExclusion(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                case "optional":
+                    parsed = checkDuplicate(parser, "optional", parsed, 8);
+                    dependency.setOptional(interpolatedTrimmed(parser.nextText(), "optional"));
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "optional", null, parsed)) {
-                dependency.setOptional(interpolatedTrimmed(parser.nextText(), "optional"));
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return dependency;
     }
@@ -688,21 +792,24 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "dependencies", null, parsed)) {
-                List<Dependency> dependencies = new ArrayList<>();
-                dependencyManagement.setDependencies(dependencies);
-                while (parser.nextTag() == 2) {
-                    if ("dependency".equals(parser.getName())) {
-                        dependencies.add(parseDependency(parser, strict));
-                        continue;
+            switch (parser.getName()) {
+                case "dependencies":
+                    parsed = checkDuplicate(parser, "dependencies", parsed, 0);
+                    List<Dependency> dependencies = new ArrayList<>();
+                    dependencyManagement.setDependencies(dependencies);
+                    while (parser.nextTag() == 2) {
+                        if ("dependency".equals(parser.getName())) {
+                            dependencies.add(parseDependency(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return dependencyManagement;
     }
@@ -718,38 +825,41 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "uniqueVersion", null, parsed)) {
-                deploymentRepository.setUniqueVersion(getBooleanValue(
-                    interpolatedTrimmed(parser.nextText(), "uniqueVersion"), "uniqueVersion", parser, "true"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "releases", null, parsed)) {
-                deploymentRepository.setReleases(parseRepositoryPolicy(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "snapshots", null, parsed)) {
-                deploymentRepository.setSnapshots(parseRepositoryPolicy(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "id", null, parsed)) {
-                deploymentRepository.setId(interpolatedTrimmed(parser.nextText(), "id"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                deploymentRepository.setName(interpolatedTrimmed(parser.nextText(), "name"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "url", null, parsed)) {
-                deploymentRepository.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "layout", null, parsed)) {
-                deploymentRepository.setLayout(interpolatedTrimmed(parser.nextText(), "layout"));
-                continue;
+            switch (parser.getName()) {
+                case "uniqueVersion":
+                    parsed = checkDuplicate(parser, "uniqueVersion", parsed, 0);
+                    deploymentRepository.setUniqueVersion(getBooleanValue(
+                        interpolatedTrimmed(parser.nextText(), "uniqueVersion"), "uniqueVersion", parser, "true"));
+                    break;
+                case "releases":
+                    parsed = checkDuplicate(parser, "releases", parsed, 1);
+                    deploymentRepository.setReleases(parseRepositoryPolicy(parser, strict));
+                    break;
+                case "snapshots":
+                    parsed = checkDuplicate(parser, "snapshots", parsed, 2);
+                    deploymentRepository.setSnapshots(parseRepositoryPolicy(parser, strict));
+                    break;
+                case "id":
+                    parsed = checkDuplicate(parser, "id", parsed, 3);
+                    deploymentRepository.setId(interpolatedTrimmed(parser.nextText(), "id"));
+                    break;
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 4);
+                    deploymentRepository.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "url":
+                    parsed = checkDuplicate(parser, "url", parsed, 5);
+                    deploymentRepository.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
+                    break;
+                case "layout":
+                    parsed = checkDuplicate(parser, "layout", parsed, 6);
+                    deploymentRepository.setLayout(interpolatedTrimmed(parser.nextText(), "layout"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return deploymentRepository;
     }
@@ -764,57 +874,62 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "id", null, parsed)) {
-                developer.setId(interpolatedTrimmed(parser.nextText(), "id"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                developer.setName(interpolatedTrimmed(parser.nextText(), "name"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "email", null, parsed)) {
-                developer.setEmail(interpolatedTrimmed(parser.nextText(), "email"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "url", null, parsed)) {
-                developer.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "organization", "organisation", parsed)) {
-                developer.setOrganization(interpolatedTrimmed(parser.nextText(), "organization"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "organizationUrl", "organisationUrl", parsed)) {
-                developer.setOrganizationUrl(interpolatedTrimmed(parser.nextText(), "organizationUrl"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "roles", null, parsed)) {
-                List<String> roles = new ArrayList<>();
-                developer.setRoles(roles);
-                while (parser.nextTag() == 2) {
-                    if ("role".equals(parser.getName())) {
-                        roles.add(interpolatedTrimmed(parser.nextText(), "roles"));
-                        continue;
+            switch (parser.getName()) {
+                case "id":
+                    parsed = checkDuplicate(parser, "id", parsed, 0);
+                    developer.setId(interpolatedTrimmed(parser.nextText(), "id"));
+                    break;
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 1);
+                    developer.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "email":
+                    parsed = checkDuplicate(parser, "email", parsed, 2);
+                    developer.setEmail(interpolatedTrimmed(parser.nextText(), "email"));
+                    break;
+                case "url":
+                    parsed = checkDuplicate(parser, "url", parsed, 3);
+                    developer.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
+                    break;
+                case "organization":
+                case "organisation":
+                    parsed = checkDuplicate(parser, "organization", parsed, 4);
+                    developer.setOrganization(interpolatedTrimmed(parser.nextText(), "organization"));
+                    break;
+                case "organizationUrl":
+                case "organisationUrl":
+                    parsed = checkDuplicate(parser, "organizationUrl", parsed, 5);
+                    developer.setOrganizationUrl(interpolatedTrimmed(parser.nextText(), "organizationUrl"));
+                    break;
+                case "roles":
+                    parsed = checkDuplicate(parser, "roles", parsed, 6);
+                    List<String> roles = new ArrayList<>();
+                    developer.setRoles(roles);
+                    while (parser.nextTag() == 2) {
+                        if ("role".equals(parser.getName())) {
+                            roles.add(interpolatedTrimmed(parser.nextText(), "roles"));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
+                    }
+                    break;
+                case "timezone":
+                    parsed = checkDuplicate(parser, "timezone", parsed, 7);
+                    developer.setTimezone(interpolatedTrimmed(parser.nextText(), "timezone"));
+                    break;
+                case "properties":
+                    parsed = checkDuplicate(parser, "properties", parsed, 8);
+                    while (parser.nextTag() == 2) {
+                        String key = parser.getName();
+                        String value = parser.nextText().trim();
+                        developer.addProperty(key, value);
                     }
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "timezone", null, parsed)) {
-                developer.setTimezone(interpolatedTrimmed(parser.nextText(), "timezone"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "properties", null, parsed)) {
-                while (parser.nextTag() == 2) {
-                    String key = parser.getName();
-                    String value = parser.nextText().trim();
-                    developer.addProperty(key, value);
-                }
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return developer;
     }
@@ -830,33 +945,36 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "repository", null, parsed)) {
-                distributionManagement.setRepository(parseDeploymentRepository(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "snapshotRepository", null, parsed)) {
-                distributionManagement.setSnapshotRepository(parseDeploymentRepository(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "site", null, parsed)) {
-                distributionManagement.setSite(parseSite(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "downloadUrl", null, parsed)) {
-                distributionManagement.setDownloadUrl(interpolatedTrimmed(parser.nextText(), "downloadUrl"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "relocation", null, parsed)) {
-                distributionManagement.setRelocation(parseRelocation(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "status", null, parsed)) {
-                distributionManagement.setStatus(interpolatedTrimmed(parser.nextText(), "status"));
-                continue;
+            switch (parser.getName()) {
+                case "repository":
+                    parsed = checkDuplicate(parser, "repository", parsed, 0);
+                    distributionManagement.setRepository(parseDeploymentRepository(parser, strict));
+                    break;
+                case "snapshotRepository":
+                    parsed = checkDuplicate(parser, "snapshotRepository", parsed, 1);
+                    distributionManagement.setSnapshotRepository(parseDeploymentRepository(parser, strict));
+                    break;
+                case "site":
+                    parsed = checkDuplicate(parser, "site", parsed, 2);
+                    distributionManagement.setSite(parseSite(parser, strict));
+                    break;
+                case "downloadUrl":
+                    parsed = checkDuplicate(parser, "downloadUrl", parsed, 3);
+                    distributionManagement.setDownloadUrl(interpolatedTrimmed(parser.nextText(), "downloadUrl"));
+                    break;
+                case "relocation":
+                    parsed = checkDuplicate(parser, "relocation", parsed, 4);
+                    distributionManagement.setRelocation(parseRelocation(parser, strict));
+                    break;
+                case "status":
+                    parsed = checkDuplicate(parser, "status", parsed, 5);
+                    distributionManagement.setStatus(interpolatedTrimmed(parser.nextText(), "status"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return distributionManagement;
     }
@@ -871,17 +989,20 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "groupId", null, parsed)) {
-                exclusion.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "artifactId", null, parsed)) {
-                exclusion.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
-                continue;
+            switch (parser.getName()) {
+                case "groupId":
+                    parsed = checkDuplicate(parser, "groupId", parsed, 0);
+                    exclusion.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
+                    break;
+                case "artifactId":
+                    parsed = checkDuplicate(parser, "artifactId", parsed, 1);
+                    exclusion.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return exclusion;
     }
@@ -895,21 +1016,24 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "groupId", null, parsed)) {
-                extension.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "artifactId", null, parsed)) {
-                extension.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "version", null, parsed)) {
-                extension.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
-                continue;
+            switch (parser.getName()) {
+                case "groupId":
+                    parsed = checkDuplicate(parser, "groupId", parsed, 0);
+                    extension.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
+                    break;
+                case "artifactId":
+                    parsed = checkDuplicate(parser, "artifactId", parsed, 1);
+                    extension.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
+                    break;
+                case "version":
+                    parsed = checkDuplicate(parser, "version", parsed, 2);
+                    extension.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return extension;
     }
@@ -924,17 +1048,20 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "system", null, parsed)) {
-                issueManagement.setSystem(interpolatedTrimmed(parser.nextText(), "system"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "url", null, parsed)) {
-                issueManagement.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
-                continue;
+            switch (parser.getName()) {
+                case "system":
+                    parsed = checkDuplicate(parser, "system", parsed, 0);
+                    issueManagement.setSystem(interpolatedTrimmed(parser.nextText(), "system"));
+                    break;
+                case "url":
+                    parsed = checkDuplicate(parser, "url", parsed, 1);
+                    issueManagement.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return issueManagement;
     }
@@ -949,25 +1076,28 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                license.setName(interpolatedTrimmed(parser.nextText(), "name"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "url", null, parsed)) {
-                license.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "distribution", null, parsed)) {
-                license.setDistribution(interpolatedTrimmed(parser.nextText(), "distribution"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "comments", null, parsed)) {
-                license.setComments(interpolatedTrimmed(parser.nextText(), "comments"));
-                continue;
+            switch (parser.getName()) {
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 0);
+                    license.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "url":
+                    parsed = checkDuplicate(parser, "url", parsed, 1);
+                    license.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
+                    break;
+                case "distribution":
+                    parsed = checkDuplicate(parser, "distribution", parsed, 2);
+                    license.setDistribution(interpolatedTrimmed(parser.nextText(), "distribution"));
+                    break;
+                case "comments":
+                    parsed = checkDuplicate(parser, "comments", parsed, 3);
+                    license.setComments(interpolatedTrimmed(parser.nextText(), "comments"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return license;
     }
@@ -983,46 +1113,50 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                mailingList.setName(interpolatedTrimmed(parser.nextText(), "name"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "subscribe", null, parsed)) {
-                mailingList.setSubscribe(interpolatedTrimmed(parser.nextText(), "subscribe"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "unsubscribe", null, parsed)) {
-                mailingList.setUnsubscribe(interpolatedTrimmed(parser.nextText(), "unsubscribe"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "post", null, parsed)) {
-                mailingList.setPost(interpolatedTrimmed(parser.nextText(), "post"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "archive", null, parsed)) {
-                mailingList.setArchive(interpolatedTrimmed(parser.nextText(), "archive"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "otherArchives", null, parsed)) {
-                List<String> otherArchives = new ArrayList<>();
-                mailingList.setOtherArchives(otherArchives);
-                while (parser.nextTag() == 2) {
-                    if ("otherArchive".equals(parser.getName())) {
-                        otherArchives.add(interpolatedTrimmed(parser.nextText(), "otherArchives"));
-                        continue;
+            switch (parser.getName()) {
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 0);
+                    mailingList.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "subscribe":
+                    parsed = checkDuplicate(parser, "subscribe", parsed, 1);
+                    mailingList.setSubscribe(interpolatedTrimmed(parser.nextText(), "subscribe"));
+                    break;
+                case "unsubscribe":
+                    parsed = checkDuplicate(parser, "unsubscribe", parsed, 2);
+                    mailingList.setUnsubscribe(interpolatedTrimmed(parser.nextText(), "unsubscribe"));
+                    break;
+                case "post":
+                    parsed = checkDuplicate(parser, "post", parsed, 3);
+                    mailingList.setPost(interpolatedTrimmed(parser.nextText(), "post"));
+                    break;
+                case "archive":
+                    parsed = checkDuplicate(parser, "archive", parsed, 4);
+                    mailingList.setArchive(interpolatedTrimmed(parser.nextText(), "archive"));
+                    break;
+                case "otherArchives":
+                    parsed = checkDuplicate(parser, "otherArchives", parsed, 5);
+                    List<String> otherArchives = new ArrayList<>();
+                    mailingList.setOtherArchives(otherArchives);
+                    while (parser.nextTag() == 2) {
+                        if ("otherArchive".equals(parser.getName())) {
+                            otherArchives.add(interpolatedTrimmed(parser.nextText(), "otherArchives"));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return mailingList;
     }
 
-    private Model parseModel(XmlPullParser parser, boolean strict) throws IOException, XmlPullParserException
+    private Model parseModel(XmlPullParser parser, boolean strict, Set<Section> sections)
+        throws IOException, XmlPullParserException
     {
         String tagName = parser.getName();
         Model model = new Model();
@@ -1038,205 +1172,215 @@ public class ModelReader
                         checkUnknownAttribute(parser, name, tagName, strict);
                     }
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "modelVersion", null, parsed)) {
-                model.setModelVersion(interpolatedTrimmed(parser.nextText(), "modelVersion"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "parent", null, parsed)) {
-                model.setParent(parseParent(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "groupId", null, parsed)) {
-                model.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "artifactId", null, parsed)) {
-                model.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "version", null, parsed)) {
-                model.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "packaging", null, parsed)) {
-                model.setPackaging(interpolatedTrimmed(parser.nextText(), "packaging"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                model.setName(interpolatedTrimmed(parser.nextText(), "name"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "description", null, parsed)) {
-                model.setDescription(interpolatedTrimmed(parser.nextText(), "description"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "url", null, parsed)) {
-                model.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "inceptionYear", null, parsed)) {
-                model.setInceptionYear(interpolatedTrimmed(parser.nextText(), "inceptionYear"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "organization", "organisation", parsed)) {
-                model.setOrganization(parseOrganization(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "licenses", null, parsed)) {
-                List<License> licenses = new ArrayList<>();
-                model.setLicenses(licenses);
-                while (parser.nextTag() == 2) {
-                    if ("license".equals(parser.getName())) {
-                        licenses.add(parseLicense(parser, strict));
-                        continue;
+            Section section = Section.BY_TAG.get(parser.getName());
+            if (section != null && !sections.contains(section)) {
+                parsed = checkDuplicate(parser, section.tagName, parsed, section.ordinal());
+                skipElement(parser);
+                continue;
+            }
+            switch (parser.getName()) {
+                case "modelVersion":
+                    parsed = checkDuplicate(parser, "modelVersion", parsed, 0);
+                    model.setModelVersion(interpolatedTrimmed(parser.nextText(), "modelVersion"));
+                    break;
+                case "parent":
+                    parsed = checkDuplicate(parser, "parent", parsed, 1);
+                    model.setParent(parseParent(parser, strict));
+                    break;
+                case "groupId":
+                    parsed = checkDuplicate(parser, "groupId", parsed, 2);
+                    model.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
+                    break;
+                case "artifactId":
+                    parsed = checkDuplicate(parser, "artifactId", parsed, 3);
+                    model.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
+                    break;
+                case "version":
+                    parsed = checkDuplicate(parser, "version", parsed, 4);
+                    model.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
+                    break;
+                case "packaging":
+                    parsed = checkDuplicate(parser, "packaging", parsed, 5);
+                    model.setPackaging(interpolatedTrimmed(parser.nextText(), "packaging"));
+                    break;
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 6);
+                    model.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "description":
+                    parsed = checkDuplicate(parser, "description", parsed, 7);
+                    model.setDescription(interpolatedTrimmed(parser.nextText(), "description"));
+                    break;
+                case "url":
+                    parsed = checkDuplicate(parser, "url", parsed, 8);
+                    model.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
+                    break;
+                case "inceptionYear":
+                    parsed = checkDuplicate(parser, "inceptionYear", parsed, 9);
+                    model.setInceptionYear(interpolatedTrimmed(parser.nextText(), "inceptionYear"));
+                    break;
+                case "organization":
+                case "organisation":
+                    parsed = checkDuplicate(parser, "organization", parsed, 10);
+                    model.setOrganization(parseOrganization(parser, strict));
+                    break;
+                case "licenses":
+                    parsed = checkDuplicate(parser, "licenses", parsed, 11);
+                    List<License> licenses = new ArrayList<>();
+                    model.setLicenses(licenses);
+                    while (parser.nextTag() == 2) {
+                        if ("license".equals(parser.getName())) {
+                            licenses.add(parseLicense(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "developers", null, parsed)) {
-                List<Developer> developers = new ArrayList<>();
-                model.setDevelopers(developers);
-                while (parser.nextTag() == 2) {
-                    if ("developer".equals(parser.getName())) {
-                        developers.add(parseDeveloper(parser, strict));
-                        continue;
+                    break;
+                case "developers":
+                    parsed = checkDuplicate(parser, "developers", parsed, 12);
+                    List<Developer> developers = new ArrayList<>();
+                    model.setDevelopers(developers);
+                    while (parser.nextTag() == 2) {
+                        if ("developer".equals(parser.getName())) {
+                            developers.add(parseDeveloper(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "contributors", null, parsed)) {
-                List<Contributor> contributors = new ArrayList<>();
-                model.setContributors(contributors);
-                while (parser.nextTag() == 2) {
-                    if ("contributor".equals(parser.getName())) {
-                        contributors.add(parseContributor(parser, strict));
-                        continue;
+                    break;
+                case "contributors":
+                    parsed = checkDuplicate(parser, "contributors", parsed, 13);
+                    List<Contributor> contributors = new ArrayList<>();
+                    model.setContributors(contributors);
+                    while (parser.nextTag() == 2) {
+                        if ("contributor".equals(parser.getName())) {
+                            contributors.add(parseContributor(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "mailingLists", null, parsed)) {
-                List<MailingList> mailingLists = new ArrayList<>();
-                model.setMailingLists(mailingLists);
-                while (parser.nextTag() == 2) {
-                    if ("mailingList".equals(parser.getName())) {
-                        mailingLists.add(parseMailingList(parser, strict));
-                        continue;
+                    break;
+                case "mailingLists":
+                    parsed = checkDuplicate(parser, "mailingLists", parsed, 14);
+                    List<MailingList> mailingLists = new ArrayList<>();
+                    model.setMailingLists(mailingLists);
+                    while (parser.nextTag() == 2) {
+                        if ("mailingList".equals(parser.getName())) {
+                            mailingLists.add(parseMailingList(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "prerequisites", null, parsed)) {
-                model.setPrerequisites(parsePrerequisites(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "modules", null, parsed)) {
-                List<String> modules = new ArrayList<>();
-                model.setModules(modules);
-                while (parser.nextTag() == 2) {
-                    if ("module".equals(parser.getName())) {
-                        modules.add(interpolatedTrimmed(parser.nextText(), "modules"));
-                        continue;
+                    break;
+                case "prerequisites":
+                    parsed = checkDuplicate(parser, "prerequisites", parsed, 15);
+                    model.setPrerequisites(parsePrerequisites(parser, strict));
+                    break;
+                case "modules":
+                    parsed = checkDuplicate(parser, "modules", parsed, 16);
+                    List<String> modules = new ArrayList<>();
+                    model.setModules(modules);
+                    while (parser.nextTag() == 2) {
+                        if ("module".equals(parser.getName())) {
+                            modules.add(interpolatedTrimmed(parser.nextText(), "modules"));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "scm", null, parsed)) {
-                model.setScm(parseScm(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "issueManagement", null, parsed)) {
-                model.setIssueManagement(parseIssueManagement(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "ciManagement", null, parsed)) {
-                model.setCiManagement(parseCiManagement(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "distributionManagement", null, parsed)) {
-                model.setDistributionManagement(parseDistributionManagement(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "properties", null, parsed)) {
-                while (parser.nextTag() == 2) {
-                    String key = parser.getName();
-                    String value = parser.nextText().trim();
-                    model.addProperty(key, value);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "dependencyManagement", null, parsed)) {
-                model.setDependencyManagement(parseDependencyManagement(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "dependencies", null, parsed)) {
-                List<Dependency> dependencies = new ArrayList<>();
-                model.setDependencies(dependencies);
-                while (parser.nextTag() == 2) {
-                    if ("dependency".equals(parser.getName())) {
-                        dependencies.add(parseDependency(parser, strict));
-                        continue;
+                    break;
+                case "scm":
+                    parsed = checkDuplicate(parser, "scm", parsed, 17);
+                    model.setScm(parseScm(parser, strict));
+                    break;
+                case "issueManagement":
+                    parsed = checkDuplicate(parser, "issueManagement", parsed, 18);
+                    model.setIssueManagement(parseIssueManagement(parser, strict));
+                    break;
+                case "ciManagement":
+                    parsed = checkDuplicate(parser, "ciManagement", parsed, 19);
+                    model.setCiManagement(parseCiManagement(parser, strict));
+                    break;
+                case "distributionManagement":
+                    parsed = checkDuplicate(parser, "distributionManagement", parsed, 20);
+                    model.setDistributionManagement(parseDistributionManagement(parser, strict));
+                    break;
+                case "properties":
+                    parsed = checkDuplicate(parser, "properties", parsed, 21);
+                    while (parser.nextTag() == 2) {
+                        String key = parser.getName();
+                        String value = parser.nextText().trim();
+                        model.addProperty(key, value);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "repositories", null, parsed)) {
-                List<Repository> repositories = new ArrayList<>();
-                model.setRepositories(repositories);
-                while (parser.nextTag() == 2) {
-                    if ("repository".equals(parser.getName())) {
-                        repositories.add(parseRepository(parser, strict));
-                        continue;
+                    break;
+                case "dependencyManagement":
+                    parsed = checkDuplicate(parser, "dependencyManagement", parsed, 22);
+                    model.setDependencyManagement(parseDependencyManagement(parser, strict));
+                    break;
+                case "dependencies":
+                    parsed = checkDuplicate(parser, "dependencies", parsed, 23);
+                    List<Dependency> dependencies = new ArrayList<>();
+                    model.setDependencies(dependencies);
+                    while (parser.nextTag() == 2) {
+                        if ("dependency".equals(parser.getName())) {
+                            dependencies.add(parseDependency(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "pluginRepositories", null, parsed)) {
-                List<Repository> pluginRepositories = new ArrayList<>();
-                model.setPluginRepositories(pluginRepositories);
-                while (parser.nextTag() == 2) {
-                    if ("pluginRepository".equals(parser.getName())) {
-                        pluginRepositories.add(parseRepository(parser, strict));
-                        continue;
+                    break;
+                case "repositories":
+                    parsed = checkDuplicate(parser, "repositories", parsed, 24);
+                    List<Repository> repositories = new ArrayList<>();
+                    model.setRepositories(repositories);
+                    while (parser.nextTag() == 2) {
+                        if ("repository".equals(parser.getName())) {
+                            repositories.add(parseRepository(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "build", null, parsed)) {
-                model.setBuild(parseBuild(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "reports", null, parsed)) {
-                model.setReports(Xpp3DomBuilder.build(parser, true));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "reporting", null, parsed)) {
-                model.setReporting(parseReporting(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "profiles", null, parsed)) {
-                List<Profile> profiles = new ArrayList<>();
-                model.setProfiles(profiles);
-                while (parser.nextTag() == 2) {
-                    if ("profile".equals(parser.getName())) {
-                        profiles.add(parseProfile(parser, strict));
-                        continue;
+                    break;
+                case "pluginRepositories":
+                    parsed = checkDuplicate(parser, "pluginRepositories", parsed, 25);
+                    List<Repository> pluginRepositories = new ArrayList<>();
+                    model.setPluginRepositories(pluginRepositories);
+                    while (parser.nextTag() == 2) {
+                        if ("pluginRepository".equals(parser.getName())) {
+                            pluginRepositories.add(parseRepository(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
+                    }
+                    break;
+                case "build":
+                    parsed = checkDuplicate(parser, "build", parsed, 26);
+                    model.setBuild(parseBuild(parser, strict));
+                    break;
+                case "reports":
+                    parsed = checkDuplicate(parser, "reports", parsed, 27);
+                    model.setReports(Xpp3DomBuilder.build(parser, true));
+                    break;
+                case "reporting":
+                    parsed = checkDuplicate(parser, "reporting", parsed, 28);
+                    model.setReporting(parseReporting(parser, strict));
+                    break;
+                case "profiles":
+                    parsed = checkDuplicate(parser, "profiles", parsed, 29);
+                    List<Profile> profiles = new ArrayList<>();
+                    model.setProfiles(profiles);
+                    while (parser.nextTag() == 2) {
+                        if ("profile".equals(parser.getName())) {
+                            profiles.add(parseProfile(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return model;
     }
@@ -1251,45 +1395,48 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "type", null, parsed)) {
-                notifier.setType(interpolatedTrimmed(parser.nextText(), "type"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "sendOnError", null, parsed)) {
-                notifier.setSendOnError(getBooleanValue(interpolatedTrimmed(parser.nextText(), "sendOnError"),
-                    "sendOnError", parser, "true"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "sendOnFailure", null, parsed)) {
-                notifier.setSendOnFailure(getBooleanValue(interpolatedTrimmed(parser.nextText(), "sendOnFailure"),
-                    "sendOnFailure", parser, "true"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "sendOnSuccess", null, parsed)) {
-                notifier.setSendOnSuccess(getBooleanValue(interpolatedTrimmed(parser.nextText(), "sendOnSuccess"),
-                    "sendOnSuccess", parser, "true"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "sendOnWarning", null, parsed)) {
-                notifier.setSendOnWarning(getBooleanValue(interpolatedTrimmed(parser.nextText(), "sendOnWarning"),
-                    "sendOnWarning", parser, "true"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "address", null, parsed)) {
-                notifier.setAddress(interpolatedTrimmed(parser.nextText(), "address"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "configuration", null, parsed)) {
-                while (parser.nextTag() == 2) {
-                    String key = parser.getName();
-                    String value = parser.nextText().trim();
-                    notifier.addConfiguration(key, value);
-                }
-                continue;
+            switch (parser.getName()) {
+                case "type":
+                    parsed = checkDuplicate(parser, "type", parsed, 0);
+                    notifier.setType(interpolatedTrimmed(parser.nextText(), "type"));
+                    break;
+                case "sendOnError":
+                    parsed = checkDuplicate(parser, "sendOnError", parsed, 1);
+                    notifier.setSendOnError(getBooleanValue(interpolatedTrimmed(parser.nextText(), "sendOnError"),
+                        "sendOnError", parser, "true"));
+                    break;
+                case "sendOnFailure":
+                    parsed = checkDuplicate(parser, "sendOnFailure", parsed, 2);
+                    notifier.setSendOnFailure(getBooleanValue(interpolatedTrimmed(parser.nextText(), "sendOnFailure"),
+                        "sendOnFailure", parser, "true"));
+                    break;
+                case "sendOnSuccess":
+                    parsed = checkDuplicate(parser, "sendOnSuccess", parsed, 3);
+                    notifier.setSendOnSuccess(getBooleanValue(interpolatedTrimmed(parser.nextText(), "sendOnSuccess"),
+                        "sendOnSuccess", parser, "true"));
+                    break;
+                case "sendOnWarning":
+                    parsed = checkDuplicate(parser, "sendOnWarning", parsed, 4);
+                    notifier.setSendOnWarning(getBooleanValue(interpolatedTrimmed(parser.nextText(), "sendOnWarning"),
+                        "sendOnWarning", parser, "true"));
+                    break;
+                case "address":
+                    parsed = checkDuplicate(parser, "address", parsed, 5);
+                    notifier.setAddress(interpolatedTrimmed(parser.nextText(), "address"));
+                    break;
+                case "configuration":
+                    parsed = checkDuplicate(parser, "configuration", parsed, 6);
+                    while (parser.nextTag() == 2) {
+                        String key = parser.getName();
+                        String value = parser.nextText().trim();
+                        notifier.addConfiguration(key, value);
+                    }
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return notifier;
     }
@@ -1305,17 +1452,20 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                organization.setName(interpolatedTrimmed(parser.nextText(), "name"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "url", null, parsed)) {
-                organization.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
-                continue;
+            switch (parser.getName()) {
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 0);
+                    organization.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "url":
+                    parsed = checkDuplicate(parser, "url", parsed, 1);
+                    organization.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return organization;
     }
@@ -1330,25 +1480,28 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "groupId", null, parsed)) {
-                parent.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "artifactId", null, parsed)) {
-                parent.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "version", null, parsed)) {
-                parent.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "relativePath", null, parsed)) {
-                parent.setRelativePath(interpolatedTrimmed(parser.nextText(), "relativePath"));
-                continue;
+            switch (parser.getName()) {
+                case "groupId":
+                    parsed = checkDuplicate(parser, "groupId", parsed, 0);
+                    parent.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
+                    break;
+                case "artifactId":
+                    parsed = checkDuplicate(parser, "artifactId", parsed, 1);
+                    parent.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
+                    break;
+                case "version":
+                    parsed = checkDuplicate(parser, "version", parsed, 2);
+                    parent.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
+                    break;
+                case "relativePath":
+                    parsed = checkDuplicate(parser, "relativePath", parsed, 3);
+                    parent.setRelativePath(interpolatedTrimmed(parser.nextText(), "relativePath"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return parent;
     }
@@ -1363,61 +1516,64 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "groupId", null, parsed)) {
-                plugin.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "artifactId", null, parsed)) {
-                plugin.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "version", null, parsed)) {
-                plugin.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "extensions", null, parsed)) {
-                plugin.setExtensions(interpolatedTrimmed(parser.nextText(), "extensions"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "executions", null, parsed)) {
-                List<PluginExecution> executions = new ArrayList<>();
-                plugin.setExecutions(executions);
-                while (parser.nextTag() == 2) {
-                    if ("execution".equals(parser.getName())) {
-                        executions.add(parsePluginExecution(parser, strict));
-                        continue;
+            switch (parser.getName()) {
+                case "groupId":
+                    parsed = checkDuplicate(parser, "groupId", parsed, 0);
+                    plugin.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
+                    break;
+                case "artifactId":
+                    parsed = checkDuplicate(parser, "artifactId", parsed, 1);
+                    plugin.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
+                    break;
+                case "version":
+                    parsed = checkDuplicate(parser, "version", parsed, 2);
+                    plugin.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
+                    break;
+                case "extensions":
+                    parsed = checkDuplicate(parser, "extensions", parsed, 3);
+                    plugin.setExtensions(interpolatedTrimmed(parser.nextText(), "extensions"));
+                    break;
+                case "executions":
+                    parsed = checkDuplicate(parser, "executions", parsed, 4);
+                    List<PluginExecution> executions = new ArrayList<>();
+                    plugin.setExecutions(executions);
+                    while (parser.nextTag() == 2) {
+                        if ("execution".equals(parser.getName())) {
+                            executions.add(parsePluginExecution(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "dependencies", null, parsed)) {
-                List<Dependency> dependencies = new ArrayList<>();
-                plugin.setDependencies(dependencies);
-                while (parser.nextTag() == 2) {
-                    if ("dependency".equals(parser.getName())) {
-                        dependencies.add(parseDependency(parser, strict));
-                        continue;
+                    break;
+                case "dependencies":
+                    parsed = checkDuplicate(parser, "dependencies", parsed, 5);
+                    List<Dependency> dependencies = new ArrayList<>();
+                    plugin.setDependencies(dependencies);
+                    while (parser.nextTag() == 2) {
+                        if ("dependency".equals(parser.getName())) {
+                            dependencies.add(parseDependency(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                case "goals":
+                    parsed = checkDuplicate(parser, "goals", parsed, 6);
+                    plugin.setGoals(Xpp3DomBuilder.build(parser, true));
+                    break;
+                case "inherited":
+                    parsed = checkDuplicate(parser, "inherited", parsed, 7);
+                    plugin.setInherited(interpolatedTrimmed(parser.nextText(), "inherited"));
+                    break;
+                case "configuration":
+                    parsed = checkDuplicate(parser, "configuration", parsed, 8);
+                    plugin.setConfiguration(Xpp3DomBuilder.build(parser, true));
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "goals", null, parsed)) {
-                plugin.setGoals(Xpp3DomBuilder.build(parser, true));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "inherited", null, parsed)) {
-                plugin.setInherited(interpolatedTrimmed(parser.nextText(), "inherited"));
-                continue;
             }
-            if (checkFieldWithDuplicate(parser, "configuration", null, parsed)) {
-                plugin.setConfiguration(Xpp3DomBuilder.build(parser, true));
-                continue;
-            }
-            checkUnknownElement(parser, strict);
         }
         return plugin;
     }
@@ -1433,37 +1589,40 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "id", null, parsed)) {
-                pluginExecution.setId(interpolatedTrimmed(parser.nextText(), "id"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "phase", null, parsed)) {
-                pluginExecution.setPhase(interpolatedTrimmed(parser.nextText(), "phase"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "goals", null, parsed)) {
-                List<String> goals = new ArrayList<>();
-                pluginExecution.setGoals(goals);
-                while (parser.nextTag() == 2) {
-                    if ("goal".equals(parser.getName())) {
-                        goals.add(interpolatedTrimmed(parser.nextText(), "goals"));
-                        continue;
+            switch (parser.getName()) {
+                case "id":
+                    parsed = checkDuplicate(parser, "id", parsed, 0);
+                    pluginExecution.setId(interpolatedTrimmed(parser.nextText(), "id"));
+                    break;
+                case "phase":
+                    parsed = checkDuplicate(parser, "phase", parsed, 1);
+                    pluginExecution.setPhase(interpolatedTrimmed(parser.nextText(), "phase"));
+                    break;
+                case "goals":
+                    parsed = checkDuplicate(parser, "goals", parsed, 2);
+                    List<String> goals = new ArrayList<>();
+                    pluginExecution.setGoals(goals);
+                    while (parser.nextTag() == 2) {
+                        if ("goal".equals(parser.getName())) {
+                            goals.add(interpolatedTrimmed(parser.nextText(), "goals"));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                case "inherited":
+                    parsed = checkDuplicate(parser, "inherited", parsed, 3);
+                    pluginExecution.setInherited(interpolatedTrimmed(parser.nextText(), "inherited"));
+                    break;
+                case "configuration":
+                    parsed = checkDuplicate(parser, "configuration", parsed, 4);
+                    pluginExecution.setConfiguration(Xpp3DomBuilder.build(parser, true));
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "inherited", null, parsed)) {
-                pluginExecution.setInherited(interpolatedTrimmed(parser.nextText(), "inherited"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "configuration", null, parsed)) {
-                pluginExecution.setConfiguration(Xpp3DomBuilder.build(parser, true));
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return pluginExecution;
     }
@@ -1479,21 +1638,24 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "plugins", null, parsed)) {
-                List<Plugin> plugins = new ArrayList<>();
-                pluginManagement.setPlugins(plugins);
-                while (parser.nextTag() == 2) {
-                    if ("plugin".equals(parser.getName())) {
-                        plugins.add(parsePlugin(parser, strict));
-                        continue;
+            switch (parser.getName()) {
+                case "plugins":
+                    parsed = checkDuplicate(parser, "plugins", parsed, 0);
+                    List<Plugin> plugins = new ArrayList<>();
+                    pluginManagement.setPlugins(plugins);
+                    while (parser.nextTag() == 2) {
+                        if ("plugin".equals(parser.getName())) {
+                            plugins.add(parsePlugin(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return pluginManagement;
     }
@@ -1509,13 +1671,16 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "maven", null, parsed)) {
-                prerequisites.setMaven(interpolatedTrimmed(parser.nextText(), "maven"));
-                continue;
+            switch (parser.getName()) {
+                case "maven":
+                    parsed = checkDuplicate(parser, "maven", parsed, 0);
+                    prerequisites.setMaven(interpolatedTrimmed(parser.nextText(), "maven"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return prerequisites;
     }
@@ -1530,93 +1695,96 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "id", null, parsed)) {
-                profile.setId(interpolatedTrimmed(parser.nextText(), "id"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "activation", null, parsed)) {
-                profile.setActivation(parseActivation(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "build", null, parsed)) {
-                profile.setBuild(parseBuildBase(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "modules", null, parsed)) {
-                List<String> modules = new ArrayList<>();
-                profile.setModules(modules);
-                while (parser.nextTag() == 2) {
-                    if ("module".equals(parser.getName())) {
-                        modules.add(interpolatedTrimmed(parser.nextText(), "modules"));
-                        continue;
+            switch (parser.getName()) {
+                case "id":
+                    parsed = checkDuplicate(parser, "id", parsed, 0);
+                    profile.setId(interpolatedTrimmed(parser.nextText(), "id"));
+                    break;
+                case "activation":
+                    parsed = checkDuplicate(parser, "activation", parsed, 1);
+                    profile.setActivation(parseActivation(parser, strict));
+                    break;
+                case "build":
+                    parsed = checkDuplicate(parser, "build", parsed, 2);
+                    profile.setBuild(parseBuildBase(parser, strict));
+                    break;
+                case "modules":
+                    parsed = checkDuplicate(parser, "modules", parsed, 3);
+                    List<String> modules = new ArrayList<>();
+                    profile.setModules(modules);
+                    while (parser.nextTag() == 2) {
+                        if ("module".equals(parser.getName())) {
+                            modules.add(interpolatedTrimmed(parser.nextText(), "modules"));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "distributionManagement", null, parsed)) {
-                profile.setDistributionManagement(parseDistributionManagement(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "properties", null, parsed)) {
-                while (parser.nextTag() == 2) {
-                    String key = parser.getName();
-                    String value = parser.nextText().trim();
-                    profile.addProperty(key, value);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "dependencyManagement", null, parsed)) {
-                profile.setDependencyManagement(parseDependencyManagement(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "dependencies", null, parsed)) {
-                List<Dependency> dependencies = new ArrayList<>();
-                profile.setDependencies(dependencies);
-                while (parser.nextTag() == 2) {
-                    if ("dependency".equals(parser.getName())) {
-                        dependencies.add(parseDependency(parser, strict));
-                        continue;
+                    break;
+                case "distributionManagement":
+                    parsed = checkDuplicate(parser, "distributionManagement", parsed, 4);
+                    profile.setDistributionManagement(parseDistributionManagement(parser, strict));
+                    break;
+                case "properties":
+                    parsed = checkDuplicate(parser, "properties", parsed, 5);
+                    while (parser.nextTag() == 2) {
+                        String key = parser.getName();
+                        String value = parser.nextText().trim();
+                        profile.addProperty(key, value);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "repositories", null, parsed)) {
-                List<Repository> repositories = new ArrayList<>();
-                profile.setRepositories(repositories);
-                while (parser.nextTag() == 2) {
-                    if ("repository".equals(parser.getName())) {
-                        repositories.add(parseRepository(parser, strict));
-                        continue;
+                    break;
+                case "dependencyManagement":
+                    parsed = checkDuplicate(parser, "dependencyManagement", parsed, 6);
+                    profile.setDependencyManagement(parseDependencyManagement(parser, strict));
+                    break;
+                case "dependencies":
+                    parsed = checkDuplicate(parser, "dependencies", parsed, 7);
+                    List<Dependency> dependencies = new ArrayList<>();
+                    profile.setDependencies(dependencies);
+                    while (parser.nextTag() == 2) {
+                        if ("dependency".equals(parser.getName())) {
+                            dependencies.add(parseDependency(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "pluginRepositories", null, parsed)) {
-                List<Repository> pluginRepositories = new ArrayList<>();
-                profile.setPluginRepositories(pluginRepositories);
-                while (parser.nextTag() == 2) {
-                    if ("pluginRepository".equals(parser.getName())) {
-                        pluginRepositories.add(parseRepository(parser, strict));
-                        continue;
+                    break;
+                case "repositories":
+                    parsed = checkDuplicate(parser, "repositories", parsed, 8);
+                    List<Repository> repositories = new ArrayList<>();
+                    profile.setRepositories(repositories);
+                    while (parser.nextTag() == 2) {
+                        if ("repository".equals(parser.getName())) {
+                            repositories.add(parseRepository(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
+                    }
+                    break;
+                case "pluginRepositories":
+                    parsed = checkDuplicate(parser, "pluginRepositories", parsed, 9);
+                    List<Repository> pluginRepositories = new ArrayList<>();
+                    profile.setPluginRepositories(pluginRepositories);
+                    while (parser.nextTag() == 2) {
+                        if ("pluginRepository".equals(parser.getName())) {
+                            pluginRepositories.add(parseRepository(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                case "reports":
+                    parsed = checkDuplicate(parser, "reports", parsed, 10);
+                    profile.setReports(Xpp3DomBuilder.build(parser, true));
+                    break;
+                case "reporting":
+                    parsed = checkDuplicate(parser, "reporting", parsed, 11);
+                    profile.setReporting(parseReporting(parser, strict));
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "reports", null, parsed)) {
-                profile.setReports(Xpp3DomBuilder.build(parser, true));
-                continue;
             }
-            if (checkFieldWithDuplicate(parser, "reporting", null, parsed)) {
-                profile.setReporting(parseReporting(parser, strict));
-                continue;
-            }
-            checkUnknownElement(parser, strict);
         }
         return profile;
     }
@@ -1631,25 +1799,28 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "groupId", null, parsed)) {
-                relocation.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "artifactId", null, parsed)) {
-                relocation.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "version", null, parsed)) {
-                relocation.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "message", null, parsed)) {
-                relocation.setMessage(interpolatedTrimmed(parser.nextText(), "message"));
-                continue;
+            switch (parser.getName()) {
+                case "groupId":
+                    parsed = checkDuplicate(parser, "groupId", parsed, 0);
+                    relocation.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
+                    break;
+                case "artifactId":
+                    parsed = checkDuplicate(parser, "artifactId", parsed, 1);
+                    relocation.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
+                    break;
+                case "version":
+                    parsed = checkDuplicate(parser, "version", parsed, 2);
+                    relocation.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
+                    break;
+                case "message":
+                    parsed = checkDuplicate(parser, "message", parsed, 3);
+                    relocation.setMessage(interpolatedTrimmed(parser.nextText(), "message"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return relocation;
     }
@@ -1665,41 +1836,44 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "groupId", null, parsed)) {
-                reportPlugin.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "artifactId", null, parsed)) {
-                reportPlugin.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "version", null, parsed)) {
-                reportPlugin.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "reportSets", null, parsed)) {
-                List<ReportSet> reportSets = new ArrayList<>();
-                reportPlugin.setReportSets(reportSets);
-                while (parser.nextTag() == 2) {
-                    if ("reportSet".equals(parser.getName())) {
-                        reportSets.add(parseReportSet(parser, strict));
-                        continue;
+            switch (parser.getName()) {
+                case "groupId":
+                    parsed = checkDuplicate(parser, "groupId", parsed, 0);
+                    reportPlugin.setGroupId(interpolatedTrimmed(parser.nextText(), "groupId"));
+                    break;
+                case "artifactId":
+                    parsed = checkDuplicate(parser, "artifactId", parsed, 1);
+                    reportPlugin.setArtifactId(interpolatedTrimmed(parser.nextText(), "artifactId"));
+                    break;
+                case "version":
+                    parsed = checkDuplicate(parser, "version", parsed, 2);
+                    reportPlugin.setVersion(interpolatedTrimmed(parser.nextText(), "version"));
+                    break;
+                case "reportSets":
+                    parsed = checkDuplicate(parser, "reportSets", parsed, 3);
+                    List<ReportSet> reportSets = new ArrayList<>();
+                    reportPlugin.setReportSets(reportSets);
+                    while (parser.nextTag() == 2) {
+                        if ("reportSet".equals(parser.getName())) {
+                            reportSets.add(parseReportSet(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                case "inherited":
+                    parsed = checkDuplicate(parser, "inherited", parsed, 4);
+                    reportPlugin.setInherited(interpolatedTrimmed(parser.nextText(), "inherited"));
+                    break;
+                case "configuration":
+                    parsed = checkDuplicate(parser, "configuration", parsed, 5);
+                    reportPlugin.setConfiguration(Xpp3DomBuilder.build(parser, true));
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "inherited", null, parsed)) {
-                reportPlugin.setInherited(interpolatedTrimmed(parser.nextText(), "inherited"));
-                continue;
             }
-            if (checkFieldWithDuplicate(parser, "configuration", null, parsed)) {
-                reportPlugin.setConfiguration(Xpp3DomBuilder.build(parser, true));
-                continue;
-            }
-            checkUnknownElement(parser, strict);
         }
         return reportPlugin;
     }
@@ -1714,33 +1888,36 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "id", null, parsed)) {
-                reportSet.setId(interpolatedTrimmed(parser.nextText(), "id"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "reports", null, parsed)) {
-                List<String> reports = new ArrayList<>();
-                reportSet.setReports(reports);
-                while (parser.nextTag() == 2) {
-                    if ("report".equals(parser.getName())) {
-                        reports.add(interpolatedTrimmed(parser.nextText(), "reports"));
-                        continue;
+            switch (parser.getName()) {
+                case "id":
+                    parsed = checkDuplicate(parser, "id", parsed, 0);
+                    reportSet.setId(interpolatedTrimmed(parser.nextText(), "id"));
+                    break;
+                case "reports":
+                    parsed = checkDuplicate(parser, "reports", parsed, 1);
+                    List<String> reports = new ArrayList<>();
+                    reportSet.setReports(reports);
+                    while (parser.nextTag() == 2) {
+                        if ("report".equals(parser.getName())) {
+                            reports.add(interpolatedTrimmed(parser.nextText(), "reports"));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                case "inherited":
+                    parsed = checkDuplicate(parser, "inherited", parsed, 2);
+                    reportSet.setInherited(interpolatedTrimmed(parser.nextText(), "inherited"));
+                    break;
+                case "configuration":
+                    parsed = checkDuplicate(parser, "configuration", parsed, 3);
+                    reportSet.setConfiguration(Xpp3DomBuilder.build(parser, true));
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "inherited", null, parsed)) {
-                reportSet.setInherited(interpolatedTrimmed(parser.nextText(), "inherited"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "configuration", null, parsed)) {
-                reportSet.setConfiguration(Xpp3DomBuilder.build(parser, true));
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return reportSet;
     }
@@ -1755,29 +1932,32 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "excludeDefaults", null, parsed)) {
-                reporting.setExcludeDefaults(interpolatedTrimmed(parser.nextText(), "excludeDefaults"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "outputDirectory", null, parsed)) {
-                reporting.setOutputDirectory(interpolatedTrimmed(parser.nextText(), "outputDirectory"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "plugins", null, parsed)) {
-                List<ReportPlugin> plugins = new ArrayList<>();
-                reporting.setPlugins(plugins);
-                while (parser.nextTag() == 2) {
-                    if ("plugin".equals(parser.getName())) {
-                        plugins.add(parseReportPlugin(parser, strict));
-                        continue;
+            switch (parser.getName()) {
+                case "excludeDefaults":
+                    parsed = checkDuplicate(parser, "excludeDefaults", parsed, 0);
+                    reporting.setExcludeDefaults(interpolatedTrimmed(parser.nextText(), "excludeDefaults"));
+                    break;
+                case "outputDirectory":
+                    parsed = checkDuplicate(parser, "outputDirectory", parsed, 1);
+                    reporting.setOutputDirectory(interpolatedTrimmed(parser.nextText(), "outputDirectory"));
+                    break;
+                case "plugins":
+                    parsed = checkDuplicate(parser, "plugins", parsed, 2);
+                    List<ReportPlugin> plugins = new ArrayList<>();
+                    reporting.setPlugins(plugins);
+                    while (parser.nextTag() == 2) {
+                        if ("plugin".equals(parser.getName())) {
+                            plugins.add(parseReportPlugin(parser, strict));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return reporting;
     }
@@ -1792,33 +1972,36 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "releases", null, parsed)) {
-                repository.setReleases(parseRepositoryPolicy(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "snapshots", null, parsed)) {
-                repository.setSnapshots(parseRepositoryPolicy(parser, strict));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "id", null, parsed)) {
-                repository.setId(interpolatedTrimmed(parser.nextText(), "id"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                repository.setName(interpolatedTrimmed(parser.nextText(), "name"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "url", null, parsed)) {
-                repository.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "layout", null, parsed)) {
-                repository.setLayout(interpolatedTrimmed(parser.nextText(), "layout"));
-                continue;
+            switch (parser.getName()) {
+                case "releases":
+                    parsed = checkDuplicate(parser, "releases", parsed, 0);
+                    repository.setReleases(parseRepositoryPolicy(parser, strict));
+                    break;
+                case "snapshots":
+                    parsed = checkDuplicate(parser, "snapshots", parsed, 1);
+                    repository.setSnapshots(parseRepositoryPolicy(parser, strict));
+                    break;
+                case "id":
+                    parsed = checkDuplicate(parser, "id", parsed, 2);
+                    repository.setId(interpolatedTrimmed(parser.nextText(), "id"));
+                    break;
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 3);
+                    repository.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "url":
+                    parsed = checkDuplicate(parser, "url", parsed, 4);
+                    repository.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
+                    break;
+                case "layout":
+                    parsed = checkDuplicate(parser, "layout", parsed, 5);
+                    repository.setLayout(interpolatedTrimmed(parser.nextText(), "layout"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return repository;
     }
@@ -1834,21 +2017,24 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "enabled", null, parsed)) {
-                repositoryPolicy.setEnabled(interpolatedTrimmed(parser.nextText(), "enabled"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "updatePolicy", null, parsed)) {
-                repositoryPolicy.setUpdatePolicy(interpolatedTrimmed(parser.nextText(), "updatePolicy"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "checksumPolicy", null, parsed)) {
-                repositoryPolicy.setChecksumPolicy(interpolatedTrimmed(parser.nextText(), "checksumPolicy"));
-                continue;
+            switch (parser.getName()) {
+                case "enabled":
+                    parsed = checkDuplicate(parser, "enabled", parsed, 0);
+                    repositoryPolicy.setEnabled(interpolatedTrimmed(parser.nextText(), "enabled"));
+                    break;
+                case "updatePolicy":
+                    parsed = checkDuplicate(parser, "updatePolicy", parsed, 1);
+                    repositoryPolicy.setUpdatePolicy(interpolatedTrimmed(parser.nextText(), "updatePolicy"));
+                    break;
+                case "checksumPolicy":
+                    parsed = checkDuplicate(parser, "checksumPolicy", parsed, 2);
+                    repositoryPolicy.setChecksumPolicy(interpolatedTrimmed(parser.nextText(), "checksumPolicy"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return repositoryPolicy;
     }
@@ -1863,45 +2049,48 @@ public class ModelReader
             if (name.indexOf(':') < 0)
                 checkUnknownAttribute(parser, name, tagName, strict);
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "targetPath", null, parsed)) {
-                resource.setTargetPath(interpolatedTrimmed(parser.nextText(), "targetPath"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "filtering", null, parsed)) {
-                resource.setFiltering(interpolatedTrimmed(parser.nextText(), "filtering"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "directory", null, parsed)) {
-                resource.setDirectory(interpolatedTrimmed(parser.nextText(), "directory"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "includes", null, parsed)) {
-                List<String> includes = new ArrayList<>();
-                resource.setIncludes(includes);
-                while (parser.nextTag() == 2) {
-                    if ("include".equals(parser.getName())) {
-                        includes.add(interpolatedTrimmed(parser.nextText(), "includes"));
-                        continue;
+            switch (parser.getName()) {
+                case "targetPath":
+                    parsed = checkDuplicate(parser, "targetPath", parsed, 0);
+                    resource.setTargetPath(interpolatedTrimmed(parser.nextText(), "targetPath"));
+                    break;
+                case "filtering":
+                    parsed = checkDuplicate(parser, "filtering", parsed, 1);
+                    resource.setFiltering(interpolatedTrimmed(parser.nextText(), "filtering"));
+                    break;
+                case "directory":
+                    parsed = checkDuplicate(parser, "directory", parsed, 2);
+                    resource.setDirectory(interpolatedTrimmed(parser.nextText(), "directory"));
+                    break;
+                case "includes":
+                    parsed = checkDuplicate(parser, "includes", parsed, 3);
+                    List<String> includes = new ArrayList<>();
+                    resource.setIncludes(includes);
+                    while (parser.nextTag() == 2) {
+                        if ("include".equals(parser.getName())) {
+                            includes.add(interpolatedTrimmed(parser.nextText(), "includes"));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
-                    checkUnknownElement(parser, strict);
-                }
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "excludes", null, parsed)) {
-                List<String> excludes = new ArrayList<>();
-                resource.setExcludes(excludes);
-                while (parser.nextTag() == 2) {
-                    if ("exclude".equals(parser.getName())) {
-                        excludes.add(interpolatedTrimmed(parser.nextText(), "excludes"));
-                        continue;
+                    break;
+                case "excludes":
+                    parsed = checkDuplicate(parser, "excludes", parsed, 4);
+                    List<String> excludes = new ArrayList<>();
+                    resource.setExcludes(excludes);
+                    while (parser.nextTag() == 2) {
+                        if ("exclude".equals(parser.getName())) {
+                            excludes.add(interpolatedTrimmed(parser.nextText(), "excludes"));
+                            continue;
+                        }
+                        checkUnknownElement(parser, strict);
                     }
+                    break;
+                default:
                     checkUnknownElement(parser, strict);
-                }
-                continue;
             }
-            checkUnknownElement(parser, strict);
         }
         return resource;
     }
@@ -1927,25 +2116,28 @@ public class ModelReader
                     checkUnknownAttribute(parser, name, tagName, strict);
                 }
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "connection", null, parsed)) {
-                scm.setConnection(interpolatedTrimmed(parser.nextText(), "connection"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "developerConnection", null, parsed)) {
-                scm.setDeveloperConnection(interpolatedTrimmed(parser.nextText(), "developerConnection"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "tag", null, parsed)) {
-                scm.setTag(interpolatedTrimmed(parser.nextText(), "tag"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "url", null, parsed)) {
-                scm.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
-                continue;
+            switch (parser.getName()) {
+                case "connection":
+                    parsed = checkDuplicate(parser, "connection", parsed, 0);
+                    scm.setConnection(interpolatedTrimmed(parser.nextText(), "connection"));
+                    break;
+                case "developerConnection":
+                    parsed = checkDuplicate(parser, "developerConnection", parsed, 1);
+                    scm.setDeveloperConnection(interpolatedTrimmed(parser.nextText(), "developerConnection"));
+                    break;
+                case "tag":
+                    parsed = checkDuplicate(parser, "tag", parsed, 2);
+                    scm.setTag(interpolatedTrimmed(parser.nextText(), "tag"));
+                    break;
+                case "url":
+                    parsed = checkDuplicate(parser, "url", parsed, 3);
+                    scm.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return scm;
     }
@@ -1965,26 +2157,30 @@ public class ModelReader
                     checkUnknownAttribute(parser, name, tagName, strict);
                 }
         }
-        Set<String> parsed = new HashSet<>();
+        long parsed = 0L;
         while ((strict ? parser.nextTag() : nextTag(parser)) == 2) {
-            if (checkFieldWithDuplicate(parser, "id", null, parsed)) {
-                site.setId(interpolatedTrimmed(parser.nextText(), "id"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "name", null, parsed)) {
-                site.setName(interpolatedTrimmed(parser.nextText(), "name"));
-                continue;
-            }
-            if (checkFieldWithDuplicate(parser, "url", null, parsed)) {
-                site.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
-                continue;
+            switch (parser.getName()) {
+                case "id":
+                    parsed = checkDuplicate(parser, "id", parsed, 0);
+                    site.setId(interpolatedTrimmed(parser.nextText(), "id"));
+                    break;
+                case "name":
+                    parsed = checkDuplicate(parser, "name", parsed, 1);
+                    site.setName(interpolatedTrimmed(parser.nextText(), "name"));
+                    break;
+                case "url":
+                    parsed = checkDuplicate(parser, "url", parsed, 2);
+                    site.setUrl(interpolatedTrimmed(parser.nextText(), "url"));
+                    break;
+                default:
+                    checkUnknownElement(parser, strict);
             }
-            checkUnknownElement(parser, strict);
         }
         return site;
     }
 
-    private Model read(XmlPullParser parser, boolean strict) throws IOException, XmlPullParserException
+    private Model read(XmlPullParser parser, boolean strict, Set<Section> sections)
+        throws IOException, XmlPullParserException
     {
         Model model = null;
         int eventType = parser.getEventType();
@@ -1996,7 +2192,7 @@ public class ModelReader
                         "Expected root element 'project' but found '" + parser.getName() + "'", parser, null);
                 if (parsed)
                     throw new XmlPullParserException("Duplicated tag: 'project'", parser, null);
-                model = parseModel(parser, strict);
+                model = parseModel(parser, strict, sections);
                 model.setModelEncoding(parser.getInputEncoding());
                 parsed = true;
             }
@@ -2012,4 +2208,13 @@ public class ModelReader
     {
         this.addDefaultEntities = addDefaultEntities;
     }
+
+    /**
+     * Sets whether documents are read with a parser kept per thread for reuse, which is the default, or with a new
+     * parser for every document.
+     */
+    public void setReuseParser(boolean reuseParser)
+    {
+        this.reuseParser = reuseParser;
+    }
 }
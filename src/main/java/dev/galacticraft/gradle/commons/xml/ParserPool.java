@@ -0,0 +1,71 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.xml;
+
+import java.io.Reader;
+
+import org.codehaus.plexus.util.xml.pull.EntityReplacementMap;
+import org.codehaus.plexus.util.xml.pull.MXParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+/**
+ * Keeps one pull parser per thread and entity setting, so that repeated reads do not allocate the buffers and entity
+ * tables of a new parser for every document. {@link MXParser#setInput(Reader)} resets the parser state between
+ * documents. A parser is taken out of the pool while it is in use, so a nested read on the same thread gets a new
+ * parser instead of the one in use.
+ */
+final class ParserPool
+{
+    private static final ThreadLocal<MXParser> WITH_DEFAULT_ENTITIES = new ThreadLocal<>();
+
+    private static final ThreadLocal<MXParser> WITHOUT_DEFAULT_ENTITIES = new ThreadLocal<>();
+
+    private ParserPool()
+    {
+    }
+
+    static MXParser acquire(boolean addDefaultEntities)
+    {
+        ThreadLocal<MXParser> pool = addDefaultEntities ? WITH_DEFAULT_ENTITIES : WITHOUT_DEFAULT_ENTITIES;
+        MXParser parser = pool.get();
+        if (parser != null) {
+            pool.set(null);
+            return parser;
+        }
+        return addDefaultEntities ? new MXParser(EntityReplacementMap.defaultEntityReplacementMap) : new MXParser();
+    }
+
+    static void release(MXParser parser, boolean addDefaultEntities)
+    {
+        try {
+            // drops the reference to the reader of the last document
+            parser.setInput((Reader) null);
+        } catch (XmlPullParserException e) {
+            return;
+        }
+        (addDefaultEntities ? WITH_DEFAULT_ENTITIES : WITHOUT_DEFAULT_ENTITIES).set(parser);
+    }
+}
@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.TimeZone;
 
 import dev.galacticraft.gradle.commons.version.Versions;
+import dev.galacticraft.gradle.commons.version.list.VersionIndex;
 import dev.galacticraft.gradle.commons.version.list.VersionSet;
 
 @SuppressWarnings("all")
@@ -137,6 +138,11 @@ public class Versioning implements Cloneable
 		return Versions.of(getVersions());
 	}
 	
+	public VersionIndex getVersionIndex()
+	{
+		return VersionIndex.parse(getVersions());
+	}
+
 	public void removeSnapshotVersion(SnapshotVersion snapshotVersion)
 	{
 		getSnapshotVersions().remove(snapshotVersion);
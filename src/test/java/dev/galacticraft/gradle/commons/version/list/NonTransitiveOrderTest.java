@@ -0,0 +1,168 @@
+/*
+ * This file is part of gradle-commons, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) Team Galacticraft <https://github.com/GalacticSuite/gradle-commons>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.galacticraft.gradle.commons.version.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dev.galacticraft.gradle.commons.version.Version;
+import dev.galacticraft.gradle.commons.version.Versions;
+
+/**
+ * Pre-release identifiers do not compare transitively, for example
+ * {@code 1.0.0-2 < 1.0.0-10 < 1.0.0-1a < 1.0.0-2}. The bulk paths must accept
+ * such versions, as inserting them into a {@code TreeSet} one by one does.
+ * Which versions of the same precedence are dropped is not defined for them,
+ * so only the distinct version strings are compared.
+ */
+class NonTransitiveOrderTest
+{
+	private static final int RUNS = 100;
+
+	private static final int VERSIONS = 500;
+
+	private static List<String> mixedPreReleases(long seed)
+	{
+		Random random = new Random(seed);
+		List<String> versions = new ArrayList<>(VERSIONS);
+		for(int i = 0; i < VERSIONS; i++)
+		{
+			versions.add("1.0.0-" + (1 + random.nextInt(200)) + (random.nextBoolean() ? "a" : ""));
+		}
+		
+		return versions;
+	}
+
+	private static List<Version> parse(List<String> versions)
+	{
+		List<Version> parsed = new ArrayList<>(versions.size());
+		for(String version : versions)
+		{
+			parsed.add(Version.of(version));
+		}
+		
+		return parsed;
+	}
+
+	private static Set<String> strings(Collection<?> versions)
+	{
+		Set<String> strings = new HashSet<>();
+		for(Object version : versions)
+		{
+			strings.add(version.toString());
+		}
+		
+		return strings;
+	}
+
+	@Test
+	void versionSetsAreBuiltFromMixedPreReleases()
+	{
+		for(long seed = 0; seed < RUNS; seed++)
+		{
+			List<String> input = mixedPreReleases(seed);
+			List<Version> versions = parse(input);
+			Set<String> expected = new HashSet<>(input);
+			
+			assertEquals(expected, strings(Versions.of(input)));
+			assertEquals(expected, strings(new VersionSet(versions)));
+		}
+	}
+
+	@Test
+	void collectorAcceptsMixedPreReleases()
+	{
+		for(long seed = 0; seed < RUNS; seed++)
+		{
+			List<String> input = mixedPreReleases(seed);
+			
+			assertEquals(new HashSet<>(input), strings(parse(input).parallelStream().collect(VersionSet.collectVersions())));
+		}
+	}
+
+	@Test
+	void bulkParserAcceptsMixedPreReleases()
+	{
+		for(long seed = 0; seed < RUNS; seed++)
+		{
+			List<String> input = mixedPreReleases(seed);
+			// repeated past the threshold, so that the strings are parsed in parallel
+			List<String> repeated = new ArrayList<>();
+			while(repeated.size() < BulkVersionParser.SEQUENTIAL_THRESHOLD)
+			{
+				repeated.addAll(input);
+			}
+			
+			BulkVersionParser.Result result = BulkVersionParser.parse(repeated);
+			assertFalse(result.hasFailures());
+			assertEquals(new HashSet<>(input), strings(result.getVersions()));
+		}
+	}
+
+	@Test
+	void partitionsFollowTheSetOrder()
+	{
+		for(long seed = 0; seed < RUNS; seed++)
+		{
+			VersionSet set = new VersionSet();
+			for(Version version : parse(mixedPreReleases(seed)))
+			{
+				set.add(version);
+			}
+			for(int i = 1; i <= VERSIONS / 10; i++)
+			{
+				set.add(Version.of("1." + i + ".0-SNAPSHOT"));
+				set.add(Version.of("1." + i + ".0"));
+			}
+			
+			List<Version> snapshots = new ArrayList<>();
+			List<Version> releases = new ArrayList<>();
+			for(Version version : set)
+			{
+				if(version.isSnapshotVersion())
+				{
+					snapshots.add(version);
+				}
+				if(version.isStable())
+				{
+					releases.add(version);
+				}
+			}
+			
+			assertEquals(snapshots, new ArrayList<>(set.snapshots()));
+			assertEquals(releases, new ArrayList<>(set.releases()));
+		}
+	}
+}